@@ -0,0 +1,94 @@
+package com.akg.utility.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.peeyush.common.utils.ArrayNodeSorter;
+import com.peeyush.common.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Sorting a json array of amounts: as strings the way <tt>getSortedArrayNode</tt> does, by value into a
+ * <tt>long[]</tt>, and only the 100 largest through a bounded heap; and sorting order objects by a nested field
+ * against picking the top 100 of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArrayNodeSortBenchmark {
+
+    private static final int TOP = 100;
+
+    @Param({"1000", "100000"})
+    public int elements;
+
+    private ArrayNode amounts;
+    private ArrayNode orders;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20240611L);
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        amounts = factory.arrayNode(elements);
+        orders = factory.arrayNode(elements);
+        for (int i = 0; i < elements; i++) {
+            long amount = random.nextInt(10_000_000);
+            amounts.add(amount);
+            ObjectNode order = orders.addObject();
+            order.put("id", "ORD-" + i);
+            order.putObject("summary").put("amount", amount);
+        }
+
+        long[] sorted = byValue();
+        long[] top = topByValue();
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] != sorted[sorted.length - 1 - i]) {
+                throw new IllegalStateException("Top k disagrees with the full sort");
+            }
+        }
+        if (!byField().subList(0, Math.min(TOP, elements)).equals(topByField())) {
+            throw new IllegalStateException("Top k by field disagrees with the full sort");
+        }
+    }
+
+    @Benchmark
+    public List<String> asStrings() throws IOException {
+        return JsonUtils.getSortedArrayNode(amounts);
+    }
+
+    @Benchmark
+    public long[] byValue() {
+        return ArrayNodeSorter.sortLongs(amounts);
+    }
+
+    @Benchmark
+    public long[] topByValue() {
+        return ArrayNodeSorter.topLongs(amounts, TOP, true);
+    }
+
+    @Benchmark
+    public List<JsonNode> byField() {
+        return ArrayNodeSorter.sortBy(orders, "summary.amount", true);
+    }
+
+    @Benchmark
+    public List<JsonNode> topByField() {
+        return ArrayNodeSorter.topBy(orders, "summary.amount", TOP, true);
+    }
+}
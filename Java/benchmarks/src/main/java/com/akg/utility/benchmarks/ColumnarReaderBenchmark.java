@@ -0,0 +1,121 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.ColumnarReader;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Customer;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pulling four fields out of 100k newline delimited customers: binding every line with <tt>fromJson</tt>, against
+ * projecting the fields into columns with {@link ColumnarReader}, sequentially and in 4 MB chunks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ColumnarReaderBenchmark {
+
+    private static final int COPIES = 20;
+
+    private Path file;
+    private ColumnarReader sequential;
+    private ColumnarReader parallel;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Customer> customers = Payloads.batch(Payloads.Size.LARGE).getCustomers();
+        file = Files.createTempFile("customers", ".ndjson");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int copy = 0; copy < COPIES; copy++) {
+                for (Customer customer : customers) {
+                    writer.write(JsonUtils.toJson(customer));
+                    writer.newLine();
+                }
+            }
+        }
+        sequential = reader().parallelism(1).build();
+        parallel = reader().chunkSize(4 * 1024 * 1024).build();
+
+        long[] bound = bound();
+        if (!Arrays.equals(bound, checksum(sequential.readLines(file)))
+                || !Arrays.equals(bound, checksum(parallel.readLines(file)))) {
+            throw new IllegalStateException("Projected columns differ from the bound records");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long[] bound() throws IOException {
+        long[] sums = new long[5];
+        try (BufferedReader lines = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                Customer customer = JsonUtils.fromJson(line, Customer.class);
+                sums[0]++;
+                sums[1] += customer.getId();
+                sums[2] += Double.doubleToLongBits(customer.getBalance()) & 0xffff;
+                sums[3] += customer.getAge();
+                sums[4] += customer.getAddress().getCity().hashCode();
+            }
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public ColumnarReader.Columns projected() throws IOException {
+        return sequential.readLines(file);
+    }
+
+    @Benchmark
+    public ColumnarReader.Columns projectedParallel() throws IOException {
+        return parallel.readLines(file);
+    }
+
+    private static ColumnarReader.Builder reader() {
+        return ColumnarReader.builder()
+                .longColumn("id")
+                .doubleColumn("balance")
+                .intColumn("age")
+                .stringColumn("address/city");
+    }
+
+    private static long[] checksum(ColumnarReader.Columns columns) {
+        long[] sums = new long[5];
+        ColumnarReader.LongColumn ids = columns.getLongs("id");
+        ColumnarReader.DoubleColumn balances = columns.getDoubles("balance");
+        ColumnarReader.IntColumn ages = columns.getInts("age");
+        ColumnarReader.StringColumn cities = columns.getStrings("address/city");
+        for (int row = 0; row < columns.size(); row++) {
+            sums[0]++;
+            sums[1] += ids.get(row);
+            sums[2] += Double.doubleToLongBits(balances.get(row)) & 0xffff;
+            sums[3] += ages.get(row);
+            sums[4] += cities.get(row).hashCode();
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,89 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.FuzzyNameIndex;
+import com.akg.utility.StringUtils;
+import com.akg.utility.benchmarks.data.NameCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Names within two edits of a query, through the index against a scan over every distinct key. Scores are per query.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FuzzyNameIndexBenchmark {
+
+    private static final int QUERIES = 100;
+
+    private static final int MAX_DISTANCE = 2;
+
+    @Param({"10000", "100000"})
+    public int names;
+
+    private FuzzyNameIndex index;
+    private List<String> keys;
+    private List<String> queries;
+
+    @Setup
+    public void setup() {
+        List<String> corpus = NameCorpus.names(names, 11L);
+        index = new FuzzyNameIndex();
+        index.addAll(corpus);
+        LinkedHashSet<String> distinct = new LinkedHashSet<>();
+        for (String name : corpus) {
+            distinct.add(FuzzyNameIndex.key(name));
+        }
+        keys = new ArrayList<>(distinct);
+        queries = new ArrayList<>(QUERIES);
+        for (String[] pair : NameCorpus.typoPairs(QUERIES, 13L)) {
+            queries.add(FuzzyNameIndex.key(pair[1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void indexSearch(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(index.search(query, MAX_DISTANCE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void indexNearest(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(index.nearest(query, 5, MAX_DISTANCE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void linearScan(Blackhole blackhole) {
+        for (String query : queries) {
+            List<String> matches = new ArrayList<>();
+            for (String key : keys) {
+                if (StringUtils.getDistance(query, key, MAX_DISTANCE) >= 0) {
+                    matches.add(key);
+                }
+            }
+            blackhole.consume(matches);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonBatch;
+import com.akg.utility.JsonStreamWriter;
+import com.akg.utility.JsonStreams;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Customer;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converting the 5000 customers of the large payload one at a time on the calling thread against {@link JsonBatch},
+ * and writing them as newline delimited json through a {@link JsonStreamWriter} against the batch writer. The gap
+ * grows with the number of processors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBatchBenchmark {
+
+    private final JsonBatch batch = JsonBatch.builder().build();
+    private List<Customer> customers;
+    private List<String> payloads;
+
+    @Setup
+    public void setup() throws IOException {
+        customers = Payloads.batch(Payloads.Size.LARGE).getCustomers();
+        payloads = sequentialToJson();
+        List<JsonBatch.Result<String>> converted = batchToJson();
+        for (int i = 0; i < payloads.size(); i++) {
+            if (!payloads.get(i).equals(converted.get(i).getOrThrow())) {
+                throw new IllegalStateException("Batch result " + i + " differs");
+            }
+        }
+        if (!streamWriter().toString("UTF-8").equals(batchWriter().toString("UTF-8"))) {
+            throw new IllegalStateException("Batch writer output differs");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batch.close();
+    }
+
+    @Benchmark
+    public List<String> sequentialToJson() {
+        List<String> json = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            json.add(JsonUtils.toJson(customer));
+        }
+        return json;
+    }
+
+    @Benchmark
+    public List<JsonBatch.Result<String>> batchToJson() {
+        return batch.toJson(customers);
+    }
+
+    @Benchmark
+    public List<Customer> sequentialFromJson() {
+        List<Customer> bound = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            bound.add(JsonUtils.fromJson(payload, Customer.class));
+        }
+        return bound;
+    }
+
+    @Benchmark
+    public List<JsonBatch.Result<Customer>> batchFromJson() {
+        return batch.fromJson(payloads, Customer.class);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream streamWriter() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonStreamWriter writer = JsonStreams.lineWriter(out)) {
+            writer.writeAll(customers);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream batchWriter() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batch.writeLines(customers.stream(), out);
+        return out;
+    }
+}
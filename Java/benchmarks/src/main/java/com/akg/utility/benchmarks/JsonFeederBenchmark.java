@@ -0,0 +1,89 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonFeeder;
+import com.akg.utility.JsonStreams;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Customer;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Newline delimited customers arriving in socket sized chunks: collecting all chunks and reading the body once it
+ * is complete, against feeding every chunk to a {@link JsonFeeder} as it arrives.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonFeederBenchmark {
+
+    @Param({"1024", "16384"})
+    public int chunkSize;
+
+    private List<byte[]> chunks;
+    private int records;
+
+    @Setup
+    public void setup() {
+        List<Customer> customers = Payloads.batch(Payloads.Size.LARGE).getCustomers();
+        records = customers.size();
+        byte[] body = customers.stream().map(JsonUtils::toJson).collect(Collectors.joining("\n"))
+                .getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            chunks.add(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + chunkSize)));
+        }
+
+        List<Customer> fed = new ArrayList<>();
+        feed(fed::add);
+        if (fed.size() != records || !JsonUtils.toJson(fed).equals(JsonUtils.toJson(customers))) {
+            throw new IllegalStateException("Fed records differ from the input");
+        }
+    }
+
+    @Benchmark
+    public void buffered(Blackhole blackhole) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            body.write(chunk, 0, chunk.length);
+        }
+        try (Stream<Customer> customers = JsonStreams.readLines(new ByteArrayInputStream(body.toByteArray()),
+                Customer.class)) {
+            customers.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void fed(Blackhole blackhole) {
+        feed(blackhole::consume);
+    }
+
+    private void feed(Consumer<Customer> consumer) {
+        JsonFeeder<Customer> feeder = JsonFeeder.values(Customer.class, consumer);
+        for (byte[] chunk : chunks) {
+            feeder.feed(chunk);
+        }
+        feeder.end();
+    }
+}
@@ -0,0 +1,102 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonDocument;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Typed top level getters, one call per field against a single parse of the request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonGetterBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = Payloads.json(size);
+    }
+
+    @Benchmark
+    public String getAsString() {
+        return JsonUtils.getAsString(json, "requestId");
+    }
+
+    @Benchmark
+    public int getAsInt() {
+        return JsonUtils.getAsInt(json, "count");
+    }
+
+    @Benchmark
+    public long getAsLong() {
+        return JsonUtils.getAsLong(json, "timestamp");
+    }
+
+    @Benchmark
+    public double getAsDouble() {
+        return JsonUtils.getAsDouble(json, "score");
+    }
+
+    @Benchmark
+    public Object getAsBigInteger() {
+        return JsonUtils.getAsBigInteger(json, "timestamp");
+    }
+
+    @Benchmark
+    public Object getAsBigDecimal() {
+        return JsonUtils.getAsBigDecimal(json, "amount");
+    }
+
+    @Benchmark
+    public boolean getAsBoolean() {
+        return JsonUtils.getAsBoolean(json, "priority");
+    }
+
+    @Benchmark
+    public byte[] getAsBytes() {
+        return JsonUtils.getAsBytes(json, "source");
+    }
+
+    @Benchmark
+    public void separateGetters(Blackhole blackhole) {
+        blackhole.consume(JsonUtils.getAsString(json, "requestId"));
+        blackhole.consume(JsonUtils.getAsInt(json, "count"));
+        blackhole.consume(JsonUtils.getAsLong(json, "timestamp"));
+        blackhole.consume(JsonUtils.getAsDouble(json, "score"));
+        blackhole.consume(JsonUtils.getAsBigInteger(json, "timestamp"));
+        blackhole.consume(JsonUtils.getAsBigDecimal(json, "amount"));
+        blackhole.consume(JsonUtils.getAsBoolean(json, "priority"));
+        blackhole.consume(JsonUtils.getAsBytes(json, "source"));
+    }
+
+    @Benchmark
+    public void singleDocument(Blackhole blackhole) {
+        JsonDocument document = JsonUtils.parse(json);
+        blackhole.consume(document.getAsString("requestId"));
+        blackhole.consume(document.getAsInt("count"));
+        blackhole.consume(document.getAsLong("timestamp"));
+        blackhole.consume(document.getAsDouble("score"));
+        blackhole.consume(document.getAsBigInteger("timestamp"));
+        blackhole.consume(document.getAsBigDecimal("amount"));
+        blackhole.consume(document.getAsBoolean("priority"));
+        blackhole.consume(document.getAsBytes("source"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonMetrics;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Batch;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link JsonMetrics} on the smallest payload, where it is largest relative to the work: the same calls
+ * with recording off and on, from several threads so the counters see contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonMetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private Batch batch;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        batch = Payloads.batch(Payloads.Size.SMALL);
+        json = Payloads.json(Payloads.Size.SMALL);
+        JsonMetrics.reset();
+        JsonMetrics.setEnabled(enabled);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long calls = JsonMetrics.snapshot(JsonMetrics.Operation.TO_JSON).getCalls()
+                + JsonMetrics.snapshot(JsonMetrics.Operation.FROM_JSON).getCalls();
+        if (enabled == (calls == 0)) {
+            throw new IllegalStateException("Recorded " + calls + " calls with recording " + enabled);
+        }
+        JsonMetrics.setEnabled(false);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(batch);
+    }
+
+    @Benchmark
+    public Batch fromJson() {
+        return JsonUtils.fromJson(json, Batch.class);
+    }
+}
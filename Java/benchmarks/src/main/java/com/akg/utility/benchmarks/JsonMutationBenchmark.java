@@ -0,0 +1,85 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonPatch;
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Payloads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single field edits and the same three edits done as chained calls, one patch and one streaming rewrite.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonMutationBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private String json;
+    private JsonPatch patch;
+    private Map<String, Object> updates;
+    private List<String> removes;
+
+    @Setup
+    public void setup() {
+        json = Payloads.json(size);
+        patch = JsonPatch.builder()
+                .replace("/source", "gateway")
+                .add("/channel", "mobile")
+                .remove("/priority")
+                .build();
+        updates = new LinkedHashMap<>();
+        updates.put("source", "gateway");
+        updates.put("channel", "mobile");
+        removes = Collections.singletonList("priority");
+    }
+
+    @Benchmark
+    public String add() {
+        return JsonUtils.add(json, "channel", "mobile");
+    }
+
+    @Benchmark
+    public String update() {
+        return JsonUtils.update(json, "source", "gateway");
+    }
+
+    @Benchmark
+    public String remove() {
+        return JsonUtils.remove(json, "priority");
+    }
+
+    @Benchmark
+    public String chained() {
+        String result = JsonUtils.update(json, "source", "gateway");
+        result = JsonUtils.add(result, "channel", "mobile");
+        return JsonUtils.remove(result, "priority");
+    }
+
+    @Benchmark
+    public String patch() {
+        return JsonUtils.patch(json, patch);
+    }
+
+    @Benchmark
+    public String rewrite() {
+        return JsonUtils.rewrite(json, updates, removes);
+    }
+}
@@ -0,0 +1,69 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Batch;
+import com.akg.utility.benchmarks.data.Payloads;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tree parsing, data binding and serialization of the request payloads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonParseBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payloads.Size size;
+
+    private String json;
+    private byte[] jsonBytes;
+    private Batch batch;
+
+    @Setup
+    public void setup() {
+        batch = Payloads.batch(size);
+        json = JsonUtils.toJson(batch);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonNode readTree() {
+        return JsonUtils.parse(json).getRoot();
+    }
+
+    @Benchmark
+    public Batch bindString() throws JsonProcessingException {
+        return JsonUtils.jsonToObject(json, Batch.class);
+    }
+
+    @Benchmark
+    public Batch bindBytes() throws Exception {
+        return JsonUtils.jsonToObject(jsonBytes, Batch.class);
+    }
+
+    @Benchmark
+    public Batch fromJson() {
+        return JsonUtils.fromJson(json, Batch.class);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(batch);
+    }
+}
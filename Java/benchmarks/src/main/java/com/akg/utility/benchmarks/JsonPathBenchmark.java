@@ -0,0 +1,75 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonUtils;
+import com.akg.utility.benchmarks.data.Payloads;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+
+/**
+ * Key path lookups through a full tree parse against the streaming extractor. The summary sits after the customer
+ * list, so the streaming side has to skip the whole array to reach it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonPathBenchmark {
+
+    private static final String[] PATHS = {"requestId", "summary/total", "summary/checksum"};
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payloads.Size size;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = Payloads.json(size);
+        JsonNode tree = JsonUtils.filterJsonNodeByKeys(json, "summary", "checksum");
+        JsonNode streamed = JsonUtils.extractJsonNodeByKeys(json, "summary", "checksum");
+        if (!tree.equals(streamed)) {
+            throw new IllegalStateException("Extraction mismatch: " + tree + " vs " + streamed);
+        }
+        Map<String, JsonNode> paths = multiplePathsStreaming();
+        if (paths.size() != PATHS.length) {
+            throw new IllegalStateException("Paths not found, only " + paths.keySet());
+        }
+    }
+
+    @Benchmark
+    public JsonNode leadingKeyTree() {
+        return JsonUtils.filterJsonNodeByKeys(json, "requestId");
+    }
+
+    @Benchmark
+    public JsonNode leadingKeyStreaming() {
+        return JsonUtils.extractJsonNodeByKeys(json, "requestId");
+    }
+
+    @Benchmark
+    public JsonNode trailingKeyTree() {
+        return JsonUtils.filterJsonNodeByKeys(json, "summary", "checksum");
+    }
+
+    @Benchmark
+    public JsonNode trailingKeyStreaming() {
+        return JsonUtils.extractJsonNodeByKeys(json, "summary", "checksum");
+    }
+
+    @Benchmark
+    public Map<String, JsonNode> multiplePathsStreaming() {
+        return JsonUtils.extractJsonNodesByPaths(json, PATHS);
+    }
+}
@@ -0,0 +1,63 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonUtils;
+import com.akg.utility.MapperProfile;
+import com.akg.utility.benchmarks.data.Batch;
+import com.akg.utility.benchmarks.data.Payloads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+
+/**
+ * Default mapper against the bytecode generating accessor profile; <tt>MapperProfileTest</tt> checks that both
+ * profiles write and read identical json.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperProfileBenchmark {
+
+    @Param({"DEFAULT", "HIGH_PERFORMANCE"})
+    public MapperProfile profile;
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private Batch batch;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper mapper = JsonUtils.newMapper(profile);
+        reader = mapper.readerFor(Batch.class);
+        writer = mapper.writerFor(Batch.class);
+        batch = Payloads.batch(size);
+        json = writer.writeValueAsString(batch);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return writer.writeValueAsString(batch);
+    }
+
+    @Benchmark
+    public Batch deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
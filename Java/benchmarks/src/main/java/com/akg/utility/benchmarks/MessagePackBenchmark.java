@@ -0,0 +1,70 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.benchmarks.data.Batch;
+import com.akg.utility.benchmarks.data.Payloads;
+import com.peeyush.common.utils.JsonUtils;
+import com.peeyush.common.utils.MessagePackFrames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * MessagePack round trips through byte arrays, a reused buffer and length prefixed frames.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MessagePackBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private Batch batch;
+    private byte[] packed;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        batch = Payloads.batch(size);
+        packed = JsonUtils.messagePackSerialize(batch);
+        buffer = ByteBuffer.allocate(packed.length * 2 + MessagePackFrames.HEADER_LENGTH);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return JsonUtils.messagePackSerialize(batch);
+    }
+
+    @Benchmark
+    public Batch deserialize() throws IOException {
+        return JsonUtils.messagePackDeserialize(packed, Batch.class);
+    }
+
+    @Benchmark
+    public Batch roundTripBuffer() throws IOException {
+        buffer.clear();
+        JsonUtils.messagePackSerialize(batch, buffer);
+        buffer.flip();
+        return JsonUtils.messagePackDeserialize(buffer, Batch.class);
+    }
+
+    @Benchmark
+    public Batch roundTripFrame() throws IOException {
+        buffer.clear();
+        MessagePackFrames.writeFrame(buffer, batch);
+        buffer.flip();
+        return MessagePackFrames.readFrame(buffer, Batch.class);
+    }
+}
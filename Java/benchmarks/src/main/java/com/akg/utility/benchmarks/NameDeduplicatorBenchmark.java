@@ -0,0 +1,167 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.JsonStreams;
+import com.akg.utility.NameDeduplicator;
+import com.akg.utility.StringUtils;
+import com.akg.utility.benchmarks.data.NameCorpus;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The whole deduplication pipeline, spill, compare, union and regroup, over corpus names plus name pairs whose second
+ * half has typos and reversed parts. Setup first runs the pipeline on 2000 names and fails unless it finds the same clusters as comparing
+ * every pair the blocking keys admit.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class NameDeduplicatorBenchmark {
+
+    private static final int CHECKED_NAMES = 2000;
+
+    private static final int MAX_DISTANCE = 2;
+
+    private static final int PREFIX_LENGTH = 3;
+
+    @Param({"100000", "1000000"})
+    public int names;
+
+    private NameDeduplicator deduplicator;
+    private Path input;
+    private Path output;
+
+    @Setup
+    public void setup() throws IOException {
+        deduplicator = NameDeduplicator.builder().build();
+        input = Files.createTempFile("names", ".txt");
+        output = Files.createTempFile("clusters", ".ndjson");
+
+        List<String> checked = corpus(CHECKED_NAMES);
+        NameDeduplicator unbounded = NameDeduplicator.builder().maxBlockSize(Integer.MAX_VALUE).build();
+        unbounded.run(checked.stream(), output);
+        Set<Set<Integer>> expected = allPairs(checked);
+        Set<Set<Integer>> actual = clusters(output);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Clusters differ from all pairs: " + expected.size() + " vs "
+                    + actual.size());
+        }
+
+        Files.write(input, corpus(names));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public NameDeduplicator.Summary run() throws IOException {
+        return deduplicator.run(input, output);
+    }
+
+    /**
+     * Corpus names followed by typo pairs, the typo copy with its parts reversed, a fifth of the count
+     */
+    private static List<String> corpus(int count) {
+        List<String> corpus = new ArrayList<>(NameCorpus.names(count - count / 5, 3L));
+        for (String[] pair : NameCorpus.typoPairs(count / 10, 3L)) {
+            corpus.add(pair[0]);
+            String[] parts = pair[1].split(" ");
+            Collections.reverse(Arrays.asList(parts));
+            corpus.add(String.join(" ", parts));
+        }
+        return corpus;
+    }
+
+    private static Set<Set<Integer>> clusters(Path file) throws IOException {
+        try (Stream<JsonNode> clusters = JsonStreams.readLines(file, JsonNode.class)) {
+            return clusters.map(cluster -> {
+                Set<Integer> members = new HashSet<>();
+                cluster.get("members").forEach(member -> members.add(member.get("id").intValue()));
+                return members;
+            }).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Clusters of every pair sharing its sorted parts, or its part prefixes and within the distance
+     */
+    private static Set<Set<Integer>> allPairs(List<String> names) {
+        LevenshteinDistance distance = new LevenshteinDistance(MAX_DISTANCE);
+        int count = names.size();
+        String[] normalized = new String[count];
+        String[] sorted = new String[count];
+        String[] prefixes = new String[count];
+        for (int i = 0; i < count; i++) {
+            List<String> parts = StringUtils.getStringParts(StringUtils.getTrimmedAndSanitisedString(names.get(i)));
+            normalized[i] = String.join(" ", parts);
+            List<String> sortedParts = new ArrayList<>(parts);
+            Collections.sort(sortedParts);
+            sorted[i] = parts.isEmpty() ? null : String.join(" ", sortedParts);
+            TreeSet<String> partPrefixes = new TreeSet<>();
+            for (String part : parts) {
+                if (part.length() > 1) {
+                    partPrefixes.add(part.substring(0, Math.min(PREFIX_LENGTH, part.length())));
+                }
+            }
+            prefixes[i] = partPrefixes.isEmpty() ? null : String.join(" ", partPrefixes);
+        }
+
+        int[] parents = new int[count];
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                boolean reordered = sorted[i] != null && sorted[i].equals(sorted[j]);
+                boolean close = prefixes[i] != null && prefixes[i].equals(prefixes[j])
+                        && distance.apply(normalized[i], normalized[j]) >= 0;
+                if (reordered || close) {
+                    parents[root(parents, i)] = root(parents, j);
+                }
+            }
+        }
+
+        Map<Integer, Set<Integer>> clusters = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            clusters.computeIfAbsent(root(parents, i), key -> new HashSet<>()).add(i);
+        }
+        return clusters.values().stream().filter(members -> members.size() > 1).collect(Collectors.toSet());
+    }
+
+    private static int root(int[] parents, int id) {
+        while (parents[id] != id) {
+            id = parents[id];
+        }
+        return id;
+    }
+}
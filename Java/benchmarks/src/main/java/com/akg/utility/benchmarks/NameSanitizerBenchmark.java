@@ -0,0 +1,73 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.NameSanitizer;
+import com.akg.utility.StringUtils;
+import com.akg.utility.benchmarks.data.NameCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * The single pass sanitizer against the regex pipeline it replaces; <tt>NameSanitizerTest</tt> checks that both give
+ * the same result. Scores are per name.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NameSanitizerBenchmark {
+
+    private static final int CORPUS_SIZE = 1000;
+
+    private static final String SALUTATION_REGEX = "^(MRS|MR|MS|MISS|SHRI)\\.?\\s+";
+
+    private List<String> names;
+    private StringBuilder sink;
+
+    @Setup
+    public void setup() {
+        names = NameCorpus.names(CORPUS_SIZE, 5L);
+        sink = new StringBuilder();
+    }
+
+    private static String regexSanitise(String value) {
+        String upper = value.trim().toUpperCase();
+        return upper.replaceFirst(SALUTATION_REGEX, "").replaceAll("[^\\dA-Za-z\\.\\s]", "");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void regex(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(regexSanitise(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getTrimmedAndSanitisedString(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(StringUtils.getTrimmedAndSanitisedString(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void reusedSink(Blackhole blackhole) {
+        for (String name : names) {
+            sink.setLength(0);
+            blackhole.consume(NameSanitizer.sanitize(name, sink).length());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.akg.utility.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.peeyush.common.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Turning a typical search request's query params into a bean: through the first-value json tree and
+ * <tt>treeToValue</tt>, and bound directly by {@link com.peeyush.common.utils.QueryParamBinder}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QueryParamBinderBenchmark {
+
+    public enum Status {
+        OPEN, SHIPPED, CANCELLED
+    }
+
+    public static class Search {
+        public String customerId;
+        public Status status;
+        public int page;
+        public int pageSize;
+        public long minAmount;
+        public Boolean express;
+        public String from;
+        public String to;
+        public String sort;
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Search)) {
+                return false;
+            }
+            Search that = (Search) other;
+            return page == that.page && pageSize == that.pageSize && minAmount == that.minAmount
+                    && Objects.equals(customerId, that.customerId) && status == that.status
+                    && Objects.equals(express, that.express) && Objects.equals(from, that.from)
+                    && Objects.equals(to, that.to) && Objects.equals(sort, that.sort);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(customerId, status, page, pageSize);
+        }
+    }
+
+    private final Map<String, String[]> params = new LinkedHashMap<>();
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        params.put("customerId", new String[]{"CUST-004211"});
+        params.put("status", new String[]{"SHIPPED"});
+        params.put("page", new String[]{"3"});
+        params.put("pageSize", new String[]{"50"});
+        params.put("minAmount", new String[]{"2500"});
+        params.put("express", new String[]{"true"});
+        params.put("from", new String[]{"2024-01-01"});
+        params.put("to", new String[]{"2024-06-30"});
+        params.put("sort", new String[]{"amount"});
+
+        if (!tree().equals(bound())) {
+            throw new IllegalStateException("Binding strategies disagree");
+        }
+    }
+
+    @Benchmark
+    public Search tree() throws JsonProcessingException {
+        return JsonUtils.getObjectFromJsonNode(JsonUtils.getFirstParamNodeFromQueryParams(params), Search.class);
+    }
+
+    @Benchmark
+    public Search bound() {
+        return JsonUtils.getObjectFromQueryParams(params, Search.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.LiteralReplacer;
+import com.akg.utility.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Filling a template document with a dozen placeholders: compiling every pattern per call, the cached patterns behind
+ * <tt>StringUtils.replaceAll</tt>, and a single pass with {@link LiteralReplacer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReplaceBenchmark {
+
+    private static final String[] FIELDS = {"name", "customerId", "address", "city", "zip", "amount", "currency",
+            "dueDate", "invoice", "agent", "phone", "email"};
+
+    private final Map<String, String> literals = new LinkedHashMap<>();
+    private final Map<String, String> patterns = new LinkedHashMap<>();
+    private LiteralReplacer replacer;
+    private StringBuilder document;
+
+    @Setup
+    public void setup() {
+        StringBuilder text = new StringBuilder();
+        for (int paragraph = 0; paragraph < 20; paragraph++) {
+            text.append("Dear {{name}}, this is a reminder regarding account {{customerId}} registered at {{address}}, ")
+                    .append("{{city}} {{zip}}. The amount of {{amount}} {{currency}} is due on {{dueDate}} for invoice ")
+                    .append("{{invoice}}. Please contact {{agent}} on {{phone}} or write to {{email}}.\n");
+        }
+        document = text;
+        for (String field : FIELDS) {
+            String value = field.toUpperCase() + "-VALUE";
+            literals.put("{{" + field + "}}", value);
+            patterns.put(Pattern.quote("{{" + field + "}}"), Matcher.quoteReplacement(value));
+        }
+        replacer = LiteralReplacer.of(literals);
+
+        String expected = cached();
+        if (!expected.equals(literal()) || !expected.equals(compiled())) {
+            throw new IllegalStateException("Replacement strategies disagree");
+        }
+    }
+
+    @Benchmark
+    public String compiled() {
+        String result = document.toString();
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            result = Pattern.compile(entry.getKey()).matcher(new StringBuilder(result)).replaceAll(entry.getValue());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String cached() {
+        String result = document.toString();
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            result = StringUtils.replaceAll(new StringBuilder(result), entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String literal() {
+        return StringUtils.replaceAll(document, replacer);
+    }
+}
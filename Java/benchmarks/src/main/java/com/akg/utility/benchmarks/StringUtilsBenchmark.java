@@ -0,0 +1,124 @@
+package com.akg.utility.benchmarks;
+
+import com.akg.utility.StringUtils;
+import com.akg.utility.benchmarks.data.NameCorpus;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Name cleanup and matching over a fixed corpus; <tt>NameTokenizerTest</tt> checks the tokenizer against the regex
+ * split measured here. Scores are per name.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StringUtilsBenchmark {
+
+    private static final int CORPUS_SIZE = 1000;
+
+    private static final int NAME_THRESHOLD = 2;
+
+    private static final LevenshteinDistance FULL_MATRIX = new LevenshteinDistance();
+
+    private List<String> names;
+    private List<String> sanitised;
+    private List<String[]> typoPairs;
+    private final int[] spans = new int[32];
+
+    @Setup
+    public void setup() {
+        names = NameCorpus.names(CORPUS_SIZE, 7L);
+        typoPairs = NameCorpus.typoPairs(CORPUS_SIZE, 7L);
+        sanitised = new ArrayList<>(CORPUS_SIZE);
+        for (String name : names) {
+            sanitised.add(StringUtils.getTrimmedAndSanitisedString(name));
+        }
+    }
+
+    private static List<String> regexParts(String value) {
+        return Arrays.stream(value.split("\\s|\\.")).filter(part -> !isBlank(part)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getTrimmedAndSanitisedString(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(StringUtils.getTrimmedAndSanitisedString(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getStringParts(Blackhole blackhole) {
+        for (String name : sanitised) {
+            blackhole.consume(StringUtils.getStringParts(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getStringPartsRegex(Blackhole blackhole) {
+        for (String name : sanitised) {
+            blackhole.consume(regexParts(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getStringPartsSpans(Blackhole blackhole) {
+        for (String name : sanitised) {
+            blackhole.consume(StringUtils.getStringParts(name, spans));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getDistance(Blackhole blackhole) {
+        for (String[] pair : typoPairs) {
+            blackhole.consume(StringUtils.getDistance(pair[0], pair[1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getDistanceBounded(Blackhole blackhole) {
+        for (String[] pair : typoPairs) {
+            blackhole.consume(StringUtils.getDistance(pair[0], pair[1], NAME_THRESHOLD));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void getDamerauDistanceBounded(Blackhole blackhole) {
+        for (String[] pair : typoPairs) {
+            blackhole.consume(StringUtils.getDamerauDistance(pair[0], pair[1], NAME_THRESHOLD));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void commonsLevenshtein(Blackhole blackhole) {
+        for (String[] pair : typoPairs) {
+            blackhole.consume(FULL_MATRIX.apply(pair[0], pair[1]));
+        }
+    }
+}
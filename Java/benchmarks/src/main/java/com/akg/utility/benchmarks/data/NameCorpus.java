@@ -0,0 +1,87 @@
+package com.akg.utility.benchmarks.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic corpus of person names as they arrive from KYC forms: mixed case, salutations, initials, stray
+ * punctuation and spacing, plus typo pairs for edit distance measurements.
+ */
+public final class NameCorpus {
+
+    private static final String[] SALUTATIONS = {"", "", "", "Mr ", "MR. ", "Mrs ", "mrs. ", "Ms ", "Miss ", "Shri "};
+    private static final String[] FIRST_NAMES = {"Aarav", "Vivaan", "Aditya", "Vihaan", "Arjun", "Sai", "Reyansh",
+            "Ayaan", "Krishna", "Ishaan", "Ananya", "Diya", "Saanvi", "Aadhya", "Pari", "Anika", "Navya", "Myra",
+            "Sara", "Ira", "Rahul", "Priya", "Amit", "Sunita", "Rajesh", "Pooja", "Suresh", "Kavita", "Mohammed",
+            "Fatima", "John", "Mary", "Peter", "Elizabeth", "Gurpreet", "Harpreet", "Venkatesh", "Lakshmi"};
+    private static final String[] LAST_NAMES = {"Sharma", "Verma", "Gupta", "Kumar", "Singh", "Patel", "Reddy",
+            "Nair", "Iyer", "Menon", "Das", "Banerjee", "Chatterjee", "Mukherjee", "Joshi", "Kulkarni", "Deshpande",
+            "Khan", "Ahmed", "D'Souza", "Fernandes", "Pillai", "Rao", "Naidu", "Chopra", "Malhotra", "Agarwal",
+            "Srinivasan", "Subramanian", "Venkataraman"};
+
+    private NameCorpus() {
+    }
+
+    public static List<String> names(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(name(random));
+        }
+        return names;
+    }
+
+    /**
+     * Pairs of a clean name and a copy with up to two typos (substitution, transposition, deletion or insertion)
+     */
+    public static List<String[]> typoPairs(int count, long seed) {
+        Random random = new Random(seed);
+        List<String[]> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String typo = name;
+            for (int t = random.nextInt(3); t > 0; t--) {
+                typo = typo(random, typo);
+            }
+            pairs.add(new String[]{name.toUpperCase(), typo.toUpperCase()});
+        }
+        return pairs;
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            name.append(' ');
+        }
+        name.append(SALUTATIONS[random.nextInt(SALUTATIONS.length)]);
+        name.append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        if (random.nextInt(3) == 0) {
+            name.append(' ').append((char) ('A' + random.nextInt(26))).append('.');
+        }
+        name.append(random.nextInt(8) == 0 ? "  " : " ");
+        name.append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        if (random.nextInt(10) == 0) {
+            name.append(random.nextBoolean() ? " -" : ",");
+        }
+        String result = name.toString();
+        return random.nextBoolean() ? result : result.toLowerCase();
+    }
+
+    private static String typo(Random random, String value) {
+        int position = random.nextInt(value.length() - 1);
+        char replacement = (char) ('a' + random.nextInt(26));
+        switch (random.nextInt(4)) {
+            case 0:
+                return value.substring(0, position) + replacement + value.substring(position + 1);
+            case 1:
+                return value.substring(0, position) + value.charAt(position + 1) + value.charAt(position)
+                        + value.substring(position + 2);
+            case 2:
+                return value.substring(0, position) + value.substring(position + 1);
+            default:
+                return value.substring(0, position) + replacement + value.substring(position);
+        }
+    }
+}
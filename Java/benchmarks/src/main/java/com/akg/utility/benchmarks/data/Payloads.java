@@ -0,0 +1,127 @@
+package com.akg.utility.benchmarks.data;
+
+import com.akg.utility.JsonUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic request payloads. The same size always produces the same json, so results of different versions
+ * are comparable.
+ */
+public final class Payloads {
+
+    private static final long SEED = 20240611L;
+
+    private static final String[] CITIES = {"Mumbai", "Delhi", "Bengaluru", "Chennai", "Kolkata", "Pune", "Jaipur",
+            "Lucknow", "Hyderabad", "Ahmedabad"};
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+    private static final String[] TAGS = {"gold", "silver", "retail", "corporate", "kyc-done", "kyc-pending",
+            "newsletter", "referral", "priority", "dormant"};
+    private static final String[] ITEMS = {"SKU-1001", "SKU-1002", "SKU-2001", "SKU-2002", "SKU-3001", "SKU-4005",
+            "SKU-5010", "SKU-6020"};
+
+    private Payloads() {
+    }
+
+    public enum Size {
+        SMALL(2),
+        MEDIUM(100),
+        LARGE(5000);
+
+        private final int customers;
+
+        Size(int customers) {
+            this.customers = customers;
+        }
+
+        public int getCustomers() {
+            return customers;
+        }
+    }
+
+    public static String json(Size size) {
+        return JsonUtils.toJson(batch(size));
+    }
+
+    public static Batch batch(Size size) {
+        Random random = new Random(SEED);
+        List<String> names = NameCorpus.names(size.getCustomers(), SEED);
+
+        Batch batch = new Batch();
+        batch.setRequestId("req-" + Long.toHexString(random.nextLong()));
+        batch.setTimestamp(1700000000000L + random.nextInt(1_000_000));
+        batch.setCount(size.getCustomers());
+        batch.setScore(random.nextDouble() * 100);
+        batch.setPriority(random.nextBoolean());
+        batch.setSource("partner-feed-" + random.nextInt(10));
+
+        List<Customer> customers = new ArrayList<>(size.getCustomers());
+        BigDecimal total = BigDecimal.ZERO;
+        int orderCount = 0;
+        for (int i = 0; i < size.getCustomers(); i++) {
+            Customer customer = customer(random, i, names.get(i));
+            for (Order order : customer.getOrders()) {
+                total = total.add(order.getAmount());
+                orderCount++;
+            }
+            customers.add(customer);
+        }
+        batch.setCustomers(customers);
+        batch.setAmount(total);
+
+        Summary summary = new Summary();
+        summary.setCustomers(customers.size());
+        summary.setOrders(orderCount);
+        summary.setTotal(total);
+        summary.setChecksum(Integer.toHexString(total.hashCode() * 31 + orderCount));
+        batch.setSummary(summary);
+        return batch;
+    }
+
+    private static Customer customer(Random random, int index, String name) {
+        Customer customer = new Customer();
+        customer.setId(100_000L + index);
+        customer.setName(name);
+        customer.setEmail("customer" + index + "@example.com");
+        customer.setAge(18 + random.nextInt(60));
+        customer.setBalance(Math.round(random.nextDouble() * 1_000_000) / 100.0);
+        customer.setActive(random.nextInt(10) > 1);
+        customer.setCreatedAt(String.format("2023-%02d-%02dT%02d:%02d:00Z", 1 + random.nextInt(12),
+                1 + random.nextInt(28), random.nextInt(24), random.nextInt(60)));
+        customer.setTags(pick(random, TAGS, 1 + random.nextInt(3)));
+
+        Address address = new Address();
+        address.setStreet((1 + random.nextInt(200)) + ", Main Road");
+        address.setCity(CITIES[random.nextInt(CITIES.length)]);
+        address.setZip(String.valueOf(400000 + random.nextInt(99999)));
+        address.setCountry("IN");
+        customer.setAddress(address);
+
+        int orders = 1 + random.nextInt(4);
+        List<Order> orderList = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order();
+            order.setOrderId("ORD-" + index + "-" + i);
+            order.setAmount(BigDecimal.valueOf(random.nextInt(1_000_000), 2).setScale(2, RoundingMode.UNNECESSARY));
+            order.setQuantity(1 + random.nextInt(5));
+            order.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            order.setItems(pick(random, ITEMS, 1 + random.nextInt(3)));
+            orderList.add(order);
+        }
+        customer.setOrders(orderList);
+        return customer;
+    }
+
+    private static List<String> pick(Random random, String[] values, int count) {
+        String[] picked = new String[count];
+        for (int i = 0; i < count; i++) {
+            picked[i] = values[random.nextInt(values.length)];
+        }
+        return Arrays.asList(picked);
+    }
+}
@@ -0,0 +1,732 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Reads a few fields of many json records into primitive columns, without binding or building a tree per record.
+ * <p>
+ * Each record is walked with the streaming parser; fields on a requested path are read straight into a growable
+ * <tt>long[]</tt>, <tt>double[]</tt> or <tt>int[]</tt>, or into a dictionary encoded string column, everything else
+ * is skipped. Paths follow {@link JsonPathExtractor}: keys separated by <tt>/</tt> and only object fields are
+ * followed. A record without a value at a path, or with <tt>null</tt>, leaves the row absent in that column; when a
+ * key is repeated the first non null value wins. Numeric columns accept numbers and numeric strings, <tt>LONG</tt> and
+ * <tt>INT</tt> columns only whole numbers within their range, string columns any scalar; other values fail the read
+ * with a {@link JsonException} naming the byte offset of the record.
+ * <p>
+ * Newline delimited files are split into chunks on line boundaries and read in parallel; the chunks are merged in
+ * file order, so the columns, and the order of the string dictionaries, are the same as from a sequential read.
+ */
+public final class ColumnarReader {
+
+    public static final long DEFAULT_CHUNK_SIZE = 32L * 1024 * 1024;
+
+    private static final int BOUNDARY_SCAN = 8 * 1024;
+
+    public enum ColumnType {
+        LONG,
+        DOUBLE,
+        INT,
+        STRING
+    }
+
+    private final Map<String, ColumnType> columns;
+    private final PathNode root = new PathNode();
+    private final int parallelism;
+    private final long chunkSize;
+
+    private ColumnarReader(Builder builder) {
+        this.columns = Collections.unmodifiableMap(new LinkedHashMap<>(builder.columns));
+        this.parallelism = builder.parallelism;
+        this.chunkSize = builder.chunkSize;
+        int index = 0;
+        for (String path : columns.keySet()) {
+            root.add(path.split("/"), index++);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Read a newline delimited json file, in parallel chunks when it is larger than the chunk size
+     */
+    public Columns readLines(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.min(Math.max(1, (size + chunkSize - 1) / chunkSize), Integer.MAX_VALUE);
+            if (chunks == 1 || parallelism == 1) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    return readLines(in);
+                }
+            }
+            return readChunks(channel, boundaries(channel, size, chunks));
+        }
+    }
+
+    /**
+     * Read newline delimited json sequentially, the stream is closed once read
+     */
+    public Columns readLines(InputStream in) throws IOException {
+        Columns result = newColumns();
+        try (JsonParser parser = factory().createParser(in)) {
+            readRecords(parser, result, 0, false);
+        }
+        return result;
+    }
+
+    public Columns readArray(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readArray(in);
+        }
+    }
+
+    /**
+     * Read the records of a top level json array sequentially, the stream is closed once read
+     */
+    public Columns readArray(InputStream in) throws IOException {
+        Columns result = newColumns();
+        try (JsonParser parser = factory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonException("Error while reading json array - input does not start with an array");
+            }
+            readRecords(parser, result, 0, true);
+        }
+        return result;
+    }
+
+    public Map<String, ColumnType> getColumns() {
+        return columns;
+    }
+
+    private Columns readChunks(FileChannel channel, long[] bounds) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<Columns>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long length = bounds[i + 1] - start;
+                if (length > Integer.MAX_VALUE) {
+                    throw new JsonException("Error while reading json lines - a chunk of " + length
+                            + " bytes is too large, lower the chunk size");
+                }
+                tasks.add(pool.submit(() -> readChunk(channel, start, (int) length)));
+            }
+            Columns result = tasks.get(0).get();
+            for (int i = 1; i < tasks.size(); i++) {
+                result.append(tasks.get(i).get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading json lines", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Reading json lines failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Columns readChunk(FileChannel channel, long start, int length) throws IOException {
+        Columns result = newColumns();
+        if (length == 0) {
+            return result;
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        try (JsonParser parser = factory().createParser(new ByteBufferBackedInputStream(buffer))) {
+            readRecords(parser, result, start, false);
+        }
+        return result;
+    }
+
+    /**
+     * Chunk start offsets, each moved forward to the start of a line, followed by the file size
+     */
+    private static long[] boundaries(FileChannel channel, long size, int chunks) throws IOException {
+        long[] bounds = new long[chunks + 1];
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN);
+        for (int i = 1; i < chunks; i++) {
+            long offset = Math.max(bounds[i - 1], size / chunks * i);
+            bounds[i] = offset == 0 ? 0 : lineStart(channel, offset, size, scan);
+        }
+        bounds[chunks] = size;
+        return bounds;
+    }
+
+    /**
+     * @return the first offset at or after <tt>offset</tt> which starts a line
+     */
+    private static long lineStart(FileChannel channel, long offset, long size, ByteBuffer scan) throws IOException {
+        long position = offset - 1;
+        while (position < size) {
+            scan.clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private void readRecords(JsonParser parser, Columns result, long byteBase, boolean array) throws IOException {
+        Columns.Row row = result.row();
+        long recordOffset = -1;
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonException("Error while reading json record at byte "
+                            + (byteBase + parser.getTokenLocation().getByteOffset()) + " - not a json object");
+                }
+                recordOffset = parser.getTokenLocation().getByteOffset();
+                row.start();
+                walkObject(parser, root, row);
+                recordOffset = -1;
+            }
+        } catch (JsonException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (recordOffset >= 0) {
+                throw new JsonException("Error while reading json record at byte " + (byteBase + recordOffset)
+                        + " - " + e.getMessage());
+            }
+            throw new JsonException("Error while reading json record near byte "
+                    + (byteBase + parser.getTokenLocation().getByteOffset()) + " - " + e.getMessage());
+        }
+    }
+
+    private static void walkObject(JsonParser parser, PathNode node, Columns.Row row) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.children.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+            if (child.column >= 0 && token.isScalarValue()) {
+                row.set(child.column, parser, token);
+            } else if (token == JsonToken.START_OBJECT && !child.children.isEmpty()) {
+                walkObject(parser, child, row);
+            } else {
+                if (child.column >= 0) {
+                    row.reject(child.column, token);
+                }
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private JsonFactory factory() {
+        return JsonUtils.getObjectMapper().getFactory();
+    }
+
+    private Columns newColumns() {
+        return new Columns(columns);
+    }
+
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+        private int column = -1;
+
+        private void add(String[] keys, int column) {
+            PathNode node = this;
+            for (String key : keys) {
+                node = node.children.computeIfAbsent(key, k -> new PathNode());
+            }
+            node.column = column;
+        }
+    }
+
+    /**
+     * The columns read from a set of records, one row per record
+     */
+    public static final class Columns {
+
+        private final Map<String, Column> byPath = new LinkedHashMap<>();
+        private final Column[] columns;
+        private int size;
+
+        private Columns(Map<String, ColumnType> types) {
+            columns = new Column[types.size()];
+            int index = 0;
+            for (Map.Entry<String, ColumnType> entry : types.entrySet()) {
+                Column column = Column.of(entry.getKey(), entry.getValue());
+                columns[index++] = column;
+                byPath.put(entry.getKey(), column);
+            }
+        }
+
+        /**
+         * @return number of records read
+         */
+        public int size() {
+            return size;
+        }
+
+        public LongColumn getLongs(String path) {
+            return column(path, LongColumn.class);
+        }
+
+        public DoubleColumn getDoubles(String path) {
+            return column(path, DoubleColumn.class);
+        }
+
+        public IntColumn getInts(String path) {
+            return column(path, IntColumn.class);
+        }
+
+        public StringColumn getStrings(String path) {
+            return column(path, StringColumn.class);
+        }
+
+        public Column getColumn(String path) {
+            return column(path, Column.class);
+        }
+
+        private <C extends Column> C column(String path, Class<C> type) {
+            Column column = byPath.get(path);
+            if (column == null) {
+                throw new IllegalArgumentException("No column for path " + path);
+            }
+            if (!type.isInstance(column)) {
+                throw new IllegalArgumentException("Column " + path + " holds " + column.getType() + " values");
+            }
+            return type.cast(column);
+        }
+
+        private Row row() {
+            return new Row();
+        }
+
+        private void append(Columns other) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].append(other.columns[i], size, other.size);
+            }
+            size += other.size;
+        }
+
+        /**
+         * Writes the values of the record being read
+         */
+        private final class Row {
+
+            private int row = -1;
+
+            private void start() {
+                row = size++;
+            }
+
+            private void set(int column, JsonParser parser, JsonToken token) throws IOException {
+                Column target = columns[column];
+                if (token != JsonToken.VALUE_NULL && !target.present.get(row)) {
+                    target.set(row, parser, token);
+                    target.present.set(row);
+                }
+            }
+
+            private void reject(int column, JsonToken token) {
+                if (!columns[column].present.get(row)) {
+                    throw new IllegalArgumentException("Value at " + columns[column].getPath()
+                            + " is not a scalar but " + token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Values of one path, with the rows which had a value
+     */
+    public abstract static class Column {
+
+        private final String path;
+        private final ColumnType type;
+        final BitSet present = new BitSet();
+
+        Column(String path, ColumnType type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        private static Column of(String path, ColumnType type) {
+            switch (type) {
+                case LONG:
+                    return new LongColumn(path);
+                case DOUBLE:
+                    return new DoubleColumn(path);
+                case INT:
+                    return new IntColumn(path);
+                default:
+                    return new StringColumn(path);
+            }
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public ColumnType getType() {
+            return type;
+        }
+
+        /**
+         * @return whether the record at <tt>row</tt> had a non null value at the path
+         */
+        public boolean isPresent(int row) {
+            return present.get(row);
+        }
+
+        /**
+         * @return number of rows with a value
+         */
+        public int getPresentCount() {
+            return present.cardinality();
+        }
+
+        abstract void set(int row, JsonParser parser, JsonToken token) throws IOException;
+
+        /**
+         * Append the rows of a later chunk, whose first row becomes <tt>offset</tt>
+         */
+        void append(Column other, int offset, int rows) {
+            for (int row = other.present.nextSetBit(0); row >= 0; row = other.present.nextSetBit(row + 1)) {
+                present.set(offset + row);
+            }
+            appendValues(other, offset, rows);
+        }
+
+        abstract void appendValues(Column other, int offset, int rows);
+
+        static int grow(int length, int needed) {
+            return Math.max(needed, Math.max(16, length + (length >> 1)));
+        }
+
+        String text(JsonParser parser, JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_STRING) {
+                return parser.getText().trim();
+            }
+            throw new IllegalArgumentException("Value at " + path + " is not a number but " + token);
+        }
+
+        /**
+         * @return an integer number, a float with no fraction or a string holding an integer, within <tt>min</tt>
+         * and <tt>max</tt>
+         */
+        long wholeNumber(JsonParser parser, JsonToken token, long min, long max) throws IOException {
+            try {
+                long value;
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    value = parser.getLongValue();
+                } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    value = parser.getDecimalValue().longValueExact();
+                } else {
+                    value = Long.parseLong(text(parser, token));
+                }
+                if (value >= min && value <= max) {
+                    return value;
+                }
+            } catch (ArithmeticException | NumberFormatException | InputCoercionException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException("Value at " + path + " is not a whole number within "
+                    + type.name().toLowerCase() + " range: " + parser.getText());
+        }
+    }
+
+    public static final class LongColumn extends Column {
+
+        private long[] values = new long[0];
+
+        private LongColumn(String path) {
+            super(path, ColumnType.LONG);
+        }
+
+        /**
+         * @return the value of the row, <tt>0</tt> when absent
+         */
+        public long get(int row) {
+            return row < values.length ? values[row] : 0L;
+        }
+
+        /**
+         * @param rows number of rows, {@link Columns#size()}
+         */
+        public long[] toArray(int rows) {
+            return Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        void set(int row, JsonParser parser, JsonToken token) throws IOException {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row + 1));
+            }
+            values[row] = wholeNumber(parser, token, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        void appendValues(Column other, int offset, int rows) {
+            long[] source = ((LongColumn) other).values;
+            int copied = Math.min(rows, source.length);
+            if (offset + copied > values.length) {
+                values = Arrays.copyOf(values, grow(values.length, offset + copied));
+            }
+            System.arraycopy(source, 0, values, offset, copied);
+        }
+    }
+
+    public static final class DoubleColumn extends Column {
+
+        private double[] values = new double[0];
+
+        private DoubleColumn(String path) {
+            super(path, ColumnType.DOUBLE);
+        }
+
+        /**
+         * @return the value of the row, <tt>0</tt> when absent
+         */
+        public double get(int row) {
+            return row < values.length ? values[row] : 0.0;
+        }
+
+        public double[] toArray(int rows) {
+            return Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        void set(int row, JsonParser parser, JsonToken token) throws IOException {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row + 1));
+            }
+            values[row] = token.isNumeric() ? parser.getDoubleValue() : Double.parseDouble(text(parser, token));
+        }
+
+        @Override
+        void appendValues(Column other, int offset, int rows) {
+            double[] source = ((DoubleColumn) other).values;
+            int copied = Math.min(rows, source.length);
+            if (offset + copied > values.length) {
+                values = Arrays.copyOf(values, grow(values.length, offset + copied));
+            }
+            System.arraycopy(source, 0, values, offset, copied);
+        }
+    }
+
+    public static final class IntColumn extends Column {
+
+        private int[] values = new int[0];
+
+        private IntColumn(String path) {
+            super(path, ColumnType.INT);
+        }
+
+        /**
+         * @return the value of the row, <tt>0</tt> when absent
+         */
+        public int get(int row) {
+            return row < values.length ? values[row] : 0;
+        }
+
+        public int[] toArray(int rows) {
+            return Arrays.copyOf(values, rows);
+        }
+
+        @Override
+        void set(int row, JsonParser parser, JsonToken token) throws IOException {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row + 1));
+            }
+            values[row] = (int) wholeNumber(parser, token, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        void appendValues(Column other, int offset, int rows) {
+            int[] source = ((IntColumn) other).values;
+            int copied = Math.min(rows, source.length);
+            if (offset + copied > values.length) {
+                values = Arrays.copyOf(values, grow(values.length, offset + copied));
+            }
+            System.arraycopy(source, 0, values, offset, copied);
+        }
+    }
+
+    /**
+     * Strings stored as codes into a dictionary of the distinct values, in order of first appearance
+     */
+    public static final class StringColumn extends Column {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] values = new int[0];
+
+        private StringColumn(String path) {
+            super(path, ColumnType.STRING);
+        }
+
+        /**
+         * @return the value of the row, <tt>null</tt> when absent
+         */
+        public String get(int row) {
+            return isPresent(row) ? dictionary.get(values[row]) : null;
+        }
+
+        /**
+         * @return dictionary code of the row's value, <tt>-1</tt> when absent
+         */
+        public int getCode(int row) {
+            return isPresent(row) ? values[row] : -1;
+        }
+
+        public List<String> getDictionary() {
+            return Collections.unmodifiableList(dictionary);
+        }
+
+        /**
+         * @return dictionary codes per row, <tt>-1</tt> for absent values
+         */
+        public int[] toCodes(int rows) {
+            int[] result = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                result[row] = getCode(row);
+            }
+            return result;
+        }
+
+        @Override
+        void set(int row, JsonParser parser, JsonToken token) throws IOException {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row + 1));
+            }
+            values[row] = code(parser.getText());
+        }
+
+        @Override
+        void appendValues(Column other, int offset, int rows) {
+            StringColumn source = (StringColumn) other;
+            int[] remap = new int[source.dictionary.size()];
+            for (int i = 0; i < remap.length; i++) {
+                remap[i] = code(source.dictionary.get(i));
+            }
+            if (offset + rows > values.length) {
+                values = Arrays.copyOf(values, grow(values.length, offset + rows));
+            }
+            for (int row = source.present.nextSetBit(0); row >= 0; row = source.present.nextSetBit(row + 1)) {
+                values[offset + row] = remap[source.values[row]];
+            }
+        }
+
+        private int code(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            return code;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<String, ColumnType> columns = new LinkedHashMap<>();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private long chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param path slash separated key path, e.g. <tt>summary/amount</tt>
+         */
+        public Builder column(String path, ColumnType type) {
+            if (path == null || path.isEmpty()) {
+                throw new IllegalArgumentException("Path must not be empty");
+            }
+            if (columns.putIfAbsent(path, type) != null) {
+                throw new IllegalArgumentException("Duplicate column " + path);
+            }
+            return this;
+        }
+
+        public Builder longColumn(String path) {
+            return column(path, ColumnType.LONG);
+        }
+
+        public Builder doubleColumn(String path) {
+            return column(path, ColumnType.DOUBLE);
+        }
+
+        public Builder intColumn(String path) {
+            return column(path, ColumnType.INT);
+        }
+
+        public Builder stringColumn(String path) {
+            return column(path, ColumnType.STRING);
+        }
+
+        /**
+         * Threads reading chunks of a newline delimited file, the number of processors by default
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Bytes of a newline delimited file read by one task, {@link #DEFAULT_CHUNK_SIZE} by default
+         */
+        public Builder chunkSize(long chunkSize) {
+            if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE / 2) {
+                throw new IllegalArgumentException("Chunk size must be between 1 byte and 1 GB");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public ColumnarReader build() {
+            if (columns.isEmpty()) {
+                throw new IllegalArgumentException("At least one column is needed");
+            }
+            return new ColumnarReader(this);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.akg.utility;
+
+/**
+ * Levenshtein and Damerau (optimal string alignment) distances with an optional threshold.
+ * <p>
+ * When the shorter string, after dropping the common prefix and suffix, has at most 64 characters the distance is
+ * computed with the bit-parallel algorithm of Myers, in Hyyr&ouml;'s formulation, one machine word per column and no
+ * allocation per call. Longer strings fall back to a dynamic programming row that is limited to the diagonal band
+ * allowed by the threshold.
+ * <p>
+ * The bounded methods return <tt>-1</tt> as soon as the distance is known to exceed the threshold, the same contract
+ * as commons-text <tt>LevenshteinDistance(threshold)</tt>.
+ */
+public final class EditDistance {
+
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * Match masks of the pattern characters below {@link #ASCII_SIZE}. Entries are reset after every call.
+     */
+    private static final ThreadLocal<long[]> PATTERN_MASKS = ThreadLocal.withInitial(() -> new long[ASCII_SIZE]);
+
+    private EditDistance() {
+    }
+
+    public static int levenshtein(CharSequence left, CharSequence right) {
+        return distance(left, right, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * @param threshold the largest distance of interest
+     * @return the distance, or <tt>-1</tt> if it is greater than <tt>threshold</tt>
+     */
+    public static int levenshtein(CharSequence left, CharSequence right, int threshold) {
+        return distance(left, right, checkThreshold(threshold), false);
+    }
+
+    /**
+     * Levenshtein distance where swapping two adjacent characters counts as a single edit. No substring is edited
+     * more than once (optimal string alignment), so <tt>CA</tt> to <tt>ABC</tt> is 3, not 2.
+     */
+    public static int damerau(CharSequence left, CharSequence right) {
+        return distance(left, right, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * @param threshold the largest distance of interest
+     * @return the distance, or <tt>-1</tt> if it is greater than <tt>threshold</tt>
+     * @see #damerau(CharSequence, CharSequence)
+     */
+    public static int damerau(CharSequence left, CharSequence right, int threshold) {
+        return distance(left, right, checkThreshold(threshold), true);
+    }
+
+    /**
+     * @return <tt>1 - distance / max(length)</tt>, <tt>1.0</tt> for identical strings and <tt>0.0</tt> for strings
+     * with nothing in common
+     */
+    public static double similarity(CharSequence left, CharSequence right) {
+        return normalize(levenshtein(left, right), left, right);
+    }
+
+    /**
+     * @see #similarity(CharSequence, CharSequence)
+     * @see #damerau(CharSequence, CharSequence)
+     */
+    public static double damerauSimilarity(CharSequence left, CharSequence right) {
+        return normalize(damerau(left, right), left, right);
+    }
+
+    private static double normalize(int distance, CharSequence left, CharSequence right) {
+        int length = Math.max(left.length(), right.length());
+        return length == 0 ? 1.0 : 1.0 - (double) distance / length;
+    }
+
+    private static int checkThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        return threshold;
+    }
+
+    private static int distance(CharSequence left, CharSequence right, int threshold, boolean transpositions) {
+        if (left == null || right == null) {
+            throw new IllegalArgumentException("Strings must not be null");
+        }
+        if (left.length() > right.length()) {
+            CharSequence swap = left;
+            left = right;
+            right = swap;
+        }
+        if (right.length() - left.length() > threshold) {
+            return -1;
+        }
+
+        int start = 0;
+        int leftEnd = left.length();
+        int rightEnd = right.length();
+        while (start < leftEnd && left.charAt(start) == right.charAt(start)) {
+            start++;
+        }
+        while (leftEnd > start && left.charAt(leftEnd - 1) == right.charAt(rightEnd - 1)) {
+            leftEnd--;
+            rightEnd--;
+        }
+
+        int patternLength = leftEnd - start;
+        if (patternLength == 0) {
+            return rightEnd - start;
+        }
+        if (patternLength <= WORD_SIZE) {
+            return bitParallel(left, start, leftEnd, right, start, rightEnd, threshold, transpositions);
+        }
+        return banded(left, start, leftEnd, right, start, rightEnd, threshold, transpositions);
+    }
+
+    /**
+     * Column by column over <tt>text</tt>, keeping the vertical deltas of the column as two bit vectors over
+     * <tt>pattern</tt>. The pattern must not be longer than 64 characters.
+     */
+    private static int bitParallel(CharSequence pattern, int patternStart, int patternEnd,
+                                   CharSequence text, int textStart, int textEnd,
+                                   int threshold, boolean transpositions) {
+        long[] masks = PATTERN_MASKS.get();
+        int patternLength = patternEnd - patternStart;
+        for (int i = 0; i < patternLength; i++) {
+            char c = pattern.charAt(patternStart + i);
+            if (c < ASCII_SIZE) {
+                masks[c] |= 1L << i;
+            }
+        }
+
+        try {
+            long last = 1L << (patternLength - 1);
+            long positive = -1L;
+            long negative = 0L;
+            long previousMatch = 0L;
+            long previousDiagonal = 0L;
+            int score = patternLength;
+
+            for (int j = textStart; j < textEnd; j++) {
+                char c = text.charAt(j);
+                long match = c < ASCII_SIZE ? masks[c] : match(pattern, patternStart, patternEnd, c);
+
+                long diagonal = (((match & positive) + positive) ^ positive) | match | negative;
+                if (transpositions) {
+                    diagonal |= ((~previousDiagonal & match) << 1) & previousMatch;
+                    previousMatch = match;
+                    previousDiagonal = diagonal;
+                }
+                long horizontalPositive = negative | ~(diagonal | positive);
+                long horizontalNegative = positive & diagonal;
+
+                if ((horizontalPositive & last) != 0) {
+                    score++;
+                } else if ((horizontalNegative & last) != 0) {
+                    score--;
+                }
+                // every remaining text character can lower the score by one at most
+                if (score - (textEnd - 1 - j) > threshold) {
+                    return -1;
+                }
+
+                horizontalPositive = (horizontalPositive << 1) | 1L;
+                horizontalNegative <<= 1;
+                positive = horizontalNegative | ~(diagonal | horizontalPositive);
+                negative = horizontalPositive & diagonal;
+            }
+            return score;
+        } finally {
+            for (int i = patternStart; i < patternEnd; i++) {
+                char c = pattern.charAt(i);
+                if (c < ASCII_SIZE) {
+                    masks[c] = 0L;
+                }
+            }
+        }
+    }
+
+    private static long match(CharSequence pattern, int start, int end, char c) {
+        long match = 0L;
+        for (int i = start; i < end; i++) {
+            if (pattern.charAt(i) == c) {
+                match |= 1L << (i - start);
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Row by row dynamic programming, only filling cells within <tt>threshold</tt> of the diagonal. Cells outside the
+     * band hold <tt>threshold + 1</tt>, which is as good as infinite for the result.
+     */
+    private static int banded(CharSequence left, int leftStart, int leftEnd,
+                              CharSequence right, int rightStart, int rightEnd,
+                              int threshold, boolean transpositions) {
+        int n = leftEnd - leftStart;
+        int m = rightEnd - rightStart;
+        int limit = (int) Math.min((long) threshold + 1, Math.max(n, m) + 1L);
+
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+        int[] beforePrevious = transpositions ? new int[n + 1] : null;
+        for (int i = 0; i <= n; i++) {
+            previous[i] = Math.min(i, limit);
+        }
+
+        for (int j = 1; j <= m; j++) {
+            char rightChar = right.charAt(rightStart + j - 1);
+            int from = Math.max(1, j - limit);
+            int to = (int) Math.min(n, (long) j + limit);
+
+            current[0] = Math.min(j, limit);
+            if (from > 1) {
+                current[from - 1] = limit;
+            }
+            int rowMinimum = current[0];
+            for (int i = from; i <= to; i++) {
+                char leftChar = left.charAt(leftStart + i - 1);
+                int cost = leftChar == rightChar ? 0 : 1;
+                int value = Math.min(Math.min(current[i - 1], previous[i]) + 1, previous[i - 1] + cost);
+                if (transpositions && i > 1 && j > 1
+                        && leftChar == right.charAt(rightStart + j - 2)
+                        && left.charAt(leftStart + i - 2) == rightChar) {
+                    value = Math.min(value, beforePrevious[i - 2] + 1);
+                }
+                current[i] = Math.min(value, limit);
+                rowMinimum = Math.min(rowMinimum, current[i]);
+            }
+            if (to < n) {
+                current[to + 1] = limit;
+            }
+            if (rowMinimum > threshold) {
+                return -1;
+            }
+
+            if (transpositions) {
+                int[] swap = beforePrevious;
+                beforePrevious = previous;
+                previous = current;
+                current = swap;
+            } else {
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+        }
+        int distance = previous[n];
+        return distance > threshold ? -1 : distance;
+    }
+}
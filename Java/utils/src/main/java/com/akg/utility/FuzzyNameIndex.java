@@ -0,0 +1,458 @@
+package com.akg.utility;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory fuzzy search over person names, answering "every name within <tt>k</tt> edits" and "the <tt>n</tt>
+ * closest names" without comparing against every entry.
+ * <p>
+ * Names are keyed the way the rest of the matching code sees them: {@link StringUtils#getTrimmedAndSanitisedString}
+ * followed by {@link StringUtils#getStringParts}, joined with single spaces, so <tt>" Mr. Rahul  Sharma"</tt> and
+ * <tt>"RAHUL SHARMA"</tt> are the same entry. Keys are held in a BK-tree over the Levenshtein distance. Damerau
+ * distance is not used because optimal string alignment breaks the triangle inequality the tree prunes with.
+ * <p>
+ * Any number of threads may query concurrently; inserts and removals take an exclusive lock. Removal only marks the
+ * entry, and the tree is rebuilt once removed entries outnumber live ones. {@link #writeTo(OutputStream)} stores the
+ * tree shape itself, so {@link #readFrom(InputStream)} reloads without computing a single distance.
+ */
+public final class FuzzyNameIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x464e4958;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node root;
+    private int size;
+    private int nodes;
+    private int removed;
+
+    /**
+     * @return the index key of <tt>name</tt>, empty when nothing is left after sanitising
+     */
+    public static String key(String name) {
+        if (name == null) {
+            return "";
+        }
+        return String.join(" ", StringUtils.getStringParts(StringUtils.getTrimmedAndSanitisedString(name)));
+    }
+
+    /**
+     * Adds one occurrence of <tt>name</tt>.
+     *
+     * @return <tt>false</tt> if the name has no usable characters
+     */
+    public boolean add(String name) {
+        String key = key(name);
+        if (key.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            insert(key, 1);
+            size++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Iterable<String> names) {
+        lock.writeLock().lock();
+        try {
+            for (String name : names) {
+                String key = key(name);
+                if (!key.isEmpty()) {
+                    insert(key, 1);
+                    size++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes one occurrence of <tt>name</tt>.
+     *
+     * @return <tt>false</tt> if the name was not in the index
+     */
+    public boolean remove(String name) {
+        String key = key(name);
+        if (key.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null || node.count == 0) {
+                return false;
+            }
+            node.count--;
+            size--;
+            if (node.count == 0) {
+                removed++;
+                if (removed > nodes - removed) {
+                    rebuild();
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String name) {
+        String key = key(name);
+        lock.readLock().lock();
+        try {
+            Node node = key.isEmpty() ? null : find(key);
+            return node != null && node.count > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of names added and not removed, duplicates included
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return every indexed name within <tt>maxDistance</tt> edits of <tt>name</tt>, closest first
+     */
+    public List<Match> search(String name, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative");
+        }
+        String key = key(name);
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (root == null) {
+                return matches;
+            }
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                // nothing below can qualify once the distance exceeds maxDistance plus the longest edge
+                int distance = EditDistance.levenshtein(key, node.key, pruneBound(maxDistance, node));
+                if (distance < 0) {
+                    continue;
+                }
+                if (distance <= maxDistance && node.count > 0) {
+                    matches.add(new Match(node.key, distance, node.count));
+                }
+                for (int i = 0; i < node.childCount; i++) {
+                    if (Math.abs(node.edges[i] - distance) <= maxDistance) {
+                        pending.push(node.children[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Match.ORDER);
+        return matches;
+    }
+
+    /**
+     * @return up to <tt>limit</tt> indexed names closest to <tt>name</tt> and no further than <tt>maxDistance</tt>,
+     * closest first
+     */
+    public List<Match> nearest(String name, int limit, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Distance must not be negative");
+        }
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        String key = key(name);
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Match.ORDER.reversed());
+        lock.readLock().lock();
+        try {
+            if (root == null) {
+                return Collections.emptyList();
+            }
+            int radius = maxDistance;
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int distance = EditDistance.levenshtein(key, node.key, pruneBound(radius, node));
+                if (distance < 0) {
+                    continue;
+                }
+                if (distance <= radius && node.count > 0) {
+                    best.add(new Match(node.key, distance, node.count));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                    if (best.size() == limit) {
+                        radius = Math.min(radius, best.peek().getDistance());
+                    }
+                }
+                for (int i = 0; i < node.childCount; i++) {
+                    if (Math.abs(node.edges[i] - distance) <= radius) {
+                        pending.push(node.children[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(Match.ORDER);
+        return matches;
+    }
+
+    /**
+     * Writes the index, tree shape included, as a compact binary snapshot.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        lock.readLock().lock();
+        try {
+            data.writeInt(SNAPSHOT_MAGIC);
+            data.writeInt(SNAPSHOT_VERSION);
+            data.writeInt(size);
+            data.writeInt(nodes);
+            data.writeInt(removed);
+            if (root != null) {
+                // pre-order: key, count, edge to the parent, number of children
+                Deque<Node> pending = new ArrayDeque<>();
+                Deque<Integer> edges = new ArrayDeque<>();
+                pending.push(root);
+                edges.push(0);
+                while (!pending.isEmpty()) {
+                    Node node = pending.pop();
+                    data.writeUTF(node.key);
+                    data.writeInt(node.count);
+                    data.writeShort(edges.pop());
+                    data.writeShort(node.childCount);
+                    for (int i = node.childCount - 1; i >= 0; i--) {
+                        pending.push(node.children[i]);
+                        edges.push(node.edges[i]);
+                    }
+                }
+            }
+            data.flush();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads an index written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     */
+    public static FuzzyNameIndex readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a fuzzy name index snapshot");
+        }
+        int version = data.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.size = data.readInt();
+        index.nodes = data.readInt();
+        index.removed = data.readInt();
+
+        Deque<Node> parents = new ArrayDeque<>();
+        Deque<Integer> remaining = new ArrayDeque<>();
+        for (int i = 0; i < index.nodes; i++) {
+            Node node = new Node(data.readUTF(), data.readInt());
+            int edge = data.readUnsignedShort();
+            int children = data.readUnsignedShort();
+            if (parents.isEmpty()) {
+                if (index.root != null) {
+                    throw new IOException("Corrupt snapshot, more than one root");
+                }
+                index.root = node;
+            } else {
+                parents.peek().addChild(edge, node);
+                remaining.push(remaining.pop() - 1);
+            }
+            if (children > 0) {
+                parents.push(node);
+                remaining.push(children);
+            }
+            while (!remaining.isEmpty() && remaining.peek() == 0) {
+                remaining.pop();
+                parents.pop();
+            }
+        }
+        if (!parents.isEmpty()) {
+            throw new IOException("Corrupt snapshot, truncated tree");
+        }
+        return index;
+    }
+
+    private void insert(String key, int count) {
+        if (root == null) {
+            root = new Node(key, count);
+            nodes++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = EditDistance.levenshtein(key, node.key);
+            if (distance == 0) {
+                if (node.count == 0) {
+                    removed--;
+                }
+                node.count += count;
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(key, count));
+                nodes++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * @return <tt>maxDistance</tt> plus the longest edge below <tt>node</tt>, saturated at <tt>Integer.MAX_VALUE</tt>
+     */
+    private static int pruneBound(int maxDistance, Node node) {
+        return maxDistance > Integer.MAX_VALUE - node.maxEdge ? Integer.MAX_VALUE : maxDistance + node.maxEdge;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        while (node != null) {
+            int distance = EditDistance.levenshtein(key, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.child(distance);
+        }
+        return null;
+    }
+
+    private void rebuild() {
+        List<Node> live = new ArrayList<>(nodes - removed);
+        if (root != null) {
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                if (node.count > 0) {
+                    live.add(node);
+                }
+                for (int i = 0; i < node.childCount; i++) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        root = null;
+        nodes = 0;
+        removed = 0;
+        for (Node node : live) {
+            insert(node.key, node.count);
+        }
+    }
+
+    private static final class Node {
+
+        private final String key;
+        private int count;
+        private int[] edges;
+        private Node[] children;
+        private int childCount;
+        private int maxEdge;
+
+        private Node(String key, int count) {
+            this.key = key;
+            this.count = count;
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (edges[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            if (children == null) {
+                edges = new int[2];
+                children = new Node[2];
+            } else if (childCount == children.length) {
+                edges = Arrays.copyOf(edges, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            edges[childCount] = distance;
+            children[childCount++] = child;
+            maxEdge = Math.max(maxEdge, distance);
+        }
+    }
+
+    public static final class Match {
+
+        private static final Comparator<Match> ORDER = Comparator.comparingInt(Match::getDistance)
+                .thenComparing(Match::getName);
+
+        private final String name;
+        private final int distance;
+        private final int occurrences;
+
+        private Match(String name, int distance, int occurrences) {
+            this.name = name;
+            this.distance = distance;
+            this.occurrences = occurrences;
+        }
+
+        /**
+         * @return the sanitised name as it is keyed in the index
+         */
+        public String getName() {
+            return name;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        /**
+         * @return how many times the name was added
+         */
+        public int getOccurrences() {
+            return occurrences;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + distance + ")";
+        }
+    }
+}
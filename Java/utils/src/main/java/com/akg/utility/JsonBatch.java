@@ -0,0 +1,429 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Converts many objects to json, or many json payloads to objects, in parallel.
+ * <p>
+ * Input is taken in windows of {@link Builder#window(int)} items. Each window is converted on a fork join pool of
+ * {@link Builder#parallelism(int)} threads before the next one is pulled from the input, which bounds the work in
+ * flight and, for streams, the input held in memory. Results come back in input order, one per item; an item which
+ * fails does not stop the batch, its {@link Result} holds the error instead.
+ * <p>
+ * {@link #writeArray(Stream, OutputStream)} and {@link #writeLines(Stream, OutputStream)} write the converted items
+ * to one stream while the next window is converted. Writing happens on a virtual thread where the runtime offers
+ * them (Java 21 and later) and on a platform thread otherwise.
+ * <p>
+ * A batch owns its fork join pool; {@link #close()} it once no more conversions are needed.
+ */
+public final class JsonBatch implements AutoCloseable {
+
+    public static final int DEFAULT_WINDOW = 4096;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonBatch.class);
+
+    private static final Method VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutor();
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] LINE_END = {'\n'};
+
+    /**
+     * Kept until the batch is closed so workers keep their thread local parser buffers; idle workers exit on their own
+     */
+    private final ForkJoinPool pool;
+    private final int window;
+    private final boolean virtualThreads;
+
+    private JsonBatch(Builder builder) {
+        this.pool = new ForkJoinPool(builder.parallelism);
+        this.window = builder.window;
+        this.virtualThreads = builder.virtualThreads;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether this runtime can write on virtual threads
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    public List<Result<String>> toJson(Collection<?> objects) {
+        return toJson(objects.stream());
+    }
+
+    /**
+     * Convert every object with {@link JsonUtils#toJson(Object)}
+     *
+     * @param objects consumed once, in order
+     * @return one result per object, in input order
+     */
+    public List<Result<String>> toJson(Stream<?> objects) {
+        return convert(objects.iterator(), JsonUtils::toJson);
+    }
+
+    public <T> List<Result<T>> fromJson(Collection<String> payloads, Class<T> type) {
+        return fromJson(payloads.stream(), type);
+    }
+
+    /**
+     * Bind every payload with {@link JsonUtils#fromJson(String, Class)}
+     *
+     * @param payloads consumed once, in order
+     * @return one result per payload, in input order
+     */
+    public <T> List<Result<T>> fromJson(Stream<String> payloads, Class<T> type) {
+        return convert(payloads.iterator(), payload -> JsonUtils.fromJson((String) payload, type));
+    }
+
+    /**
+     * Write all objects to the stream as one json array
+     *
+     * @param out target stream, flushed but not closed
+     * @return the number of objects written and those which could not be converted
+     */
+    public Summary writeArray(Stream<?> objects, OutputStream out) throws IOException {
+        return write(objects.iterator(), out, true);
+    }
+
+    /**
+     * Write all objects to the stream as newline delimited json
+     *
+     * @param out target stream, flushed but not closed
+     * @return the number of objects written and those which could not be converted
+     */
+    public Summary writeLines(Stream<?> objects, OutputStream out) throws IOException {
+        return write(objects.iterator(), out, false);
+    }
+
+    /**
+     * Shuts the pool down, conversions already running complete but no new ones are accepted
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private void checkOpen() {
+        if (pool.isShutdown()) {
+            throw new IllegalStateException("Json batch is closed");
+        }
+    }
+
+    private <R> List<Result<R>> convert(Iterator<?> items, Function<Object, R> conversion) {
+        checkOpen();
+        List<Result<R>> results = new ArrayList<>();
+        Object[] inputs = new Object[window];
+        long base = 0;
+        int count;
+        while ((count = fill(items, inputs)) > 0) {
+            results.addAll(Arrays.asList(convertWindow(pool, inputs, count, base, conversion)));
+            base += count;
+        }
+        return results;
+    }
+
+    private Summary write(Iterator<?> items, OutputStream out, boolean array) throws IOException {
+        checkOpen();
+        long started = System.nanoTime();
+        List<Result<Object>> failures = new ArrayList<>();
+        ExecutorService sink = newSinkExecutor();
+        long[] written = new long[1];
+        try {
+            if (array) {
+                out.write(ARRAY_START);
+            }
+            Object[] inputs = new Object[window];
+            Future<?> pending = null;
+            long base = 0;
+            int count;
+            while ((count = fill(items, inputs)) > 0) {
+                // converting this window overlaps with writing the previous one
+                Result<byte[]>[] converted = convertWindow(pool, inputs, count, base, JsonBatch::toBytes);
+                base += count;
+                for (Result<byte[]> result : converted) {
+                    if (!result.isSuccess()) {
+                        failures.add(new Result<>(result.index, result.input, null, result.error));
+                    }
+                }
+                await(pending);
+                pending = sink.submit(() -> writeWindow(out, converted, array, written));
+            }
+            await(pending);
+            if (array) {
+                out.write(ARRAY_END);
+            }
+            out.flush();
+        } finally {
+            sink.shutdown();
+        }
+        return new Summary(written[0], failures, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static byte[] toBytes(Object object) {
+        Objects.requireNonNull(object);
+        try {
+            return JsonUtils.getMapperCache().writer(object.getClass()).writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Error while converting object to json - " + e);
+        }
+    }
+
+    /**
+     * Runs on the sink thread, one window at a time, so <tt>written</tt> is only touched by one thread at once
+     */
+    private static Void writeWindow(OutputStream out, Result<byte[]>[] converted, boolean array, long[] written)
+            throws IOException {
+        for (Result<byte[]> result : converted) {
+            if (!result.isSuccess()) {
+                continue;
+            }
+            if (array && written[0] > 0) {
+                out.write(ARRAY_SEPARATOR);
+            }
+            out.write(result.value);
+            if (!array) {
+                out.write(LINE_END);
+            }
+            written[0]++;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Result<R>[] convertWindow(ForkJoinPool pool, Object[] inputs, int count, long base,
+                                                 Function<Object, R> conversion) {
+        Result<R>[] results = new Result[count];
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(i -> {
+            Object input = inputs[i];
+            try {
+                results[i] = new Result<>(base + i, null, conversion.apply(input), null);
+            } catch (RuntimeException e) {
+                results[i] = new Result<>(base + i, input, null, e);
+            }
+        })).join();
+        return results;
+    }
+
+    private static int fill(Iterator<?> items, Object[] inputs) {
+        int count = 0;
+        while (count < inputs.length && items.hasNext()) {
+            inputs[count++] = items.next();
+        }
+        Arrays.fill(inputs, count, inputs.length, null);
+        return count;
+    }
+
+    private static void await(Future<?> pending) throws IOException {
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing json", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException("Writing json failed", cause);
+        }
+    }
+
+    private ExecutorService newSinkExecutor() {
+        if (virtualThreads && VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.debug("Virtual threads not usable, writing on a platform thread - {}", e.getMessage());
+            }
+        }
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "json-batch-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method virtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Outcome of one item: the converted value, or the error which stopped its conversion
+     */
+    public static final class Result<R> {
+
+        private final long index;
+        private final Object input;
+        private final R value;
+        private final RuntimeException error;
+
+        private Result(long index, Object input, R value, RuntimeException error) {
+            this.index = index;
+            this.input = input;
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * @return zero based position of the item in the input
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the item which could not be converted, <tt>null</tt> for successful items so a batch does not
+         * hold every input twice
+         */
+        public Object getInput() {
+            return input;
+        }
+
+        /**
+         * @return the converted value, <tt>null</tt> when the conversion failed
+         */
+        public R getValue() {
+            return value;
+        }
+
+        /**
+         * @return the failure, usually a {@link JsonException}, or <tt>null</tt>
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * @return the value
+         * @throws RuntimeException the error of a failed item
+         */
+        public R getOrThrow() {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess() ? "Result{" + index + "}" : "Result{" + index + ", " + error + "}";
+        }
+    }
+
+    public static final class Summary {
+
+        private final long written;
+        private final List<Result<Object>> failures;
+        private final long elapsedMillis;
+
+        private Summary(long written, List<Result<Object>> failures, long elapsedMillis) {
+            this.written = written;
+            this.failures = failures;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getWritten() {
+            return written;
+        }
+
+        /**
+         * @return items which could not be converted and were left out, in input order
+         */
+        public List<Result<Object>> getFailures() {
+            return failures;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "written=" + written + " failures=" + failures.size() + " elapsedMillis=" + elapsedMillis;
+        }
+    }
+
+    public static final class Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int window = DEFAULT_WINDOW;
+        private boolean virtualThreads = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Threads converting items, the number of processors by default
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Items pulled from the input and converted together, {@link #DEFAULT_WINDOW} by default. The next window
+         * is only pulled once the previous one is converted, and written when writing to a stream.
+         */
+        public Builder window(int window) {
+            if (window < 1) {
+                throw new IllegalArgumentException("Window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Whether to write on a virtual thread when the runtime offers them, true by default
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public JsonBatch build() {
+            return new JsonBatch(this);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.apache.commons.lang3.BooleanUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parsed json payload which can be queried many times without parsing the input again.
+ * <p>
+ * Obtain an instance through {@link JsonUtils#parse(String)} and read all the required fields from it,
+ * instead of calling the {@code JsonUtils.getAsX(json, key)} helpers once per field.
+ * Missing keys resolve to the same defaults as those helpers.
+ */
+public final class JsonDocument {
+
+    private static final JsonDocument EMPTY = new JsonDocument(MissingNode.getInstance());
+
+    private final JsonNode root;
+
+    JsonDocument(JsonNode root) {
+        this.root = root == null ? MissingNode.getInstance() : root;
+    }
+
+    /**
+     * Wrap an already parsed json node
+     *
+     * @param root parsed json node
+     * @return <tt>json document</tt>
+     */
+    public static JsonDocument of(JsonNode root) {
+        return root == null ? EMPTY : new JsonDocument(root);
+    }
+
+    static JsonDocument empty() {
+        return EMPTY;
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    public boolean isEmpty() {
+        return root.isMissingNode();
+    }
+
+    /**
+     * Find the node at the provided key path
+     *
+     * @param keyPath keys to follow from the root node
+     * @return JsonNode {@link JsonNode} or null if any key is not present
+     */
+    public JsonNode get(String... keyPath) {
+        JsonNode jsonNode = root;
+
+        for (String key : keyPath) {
+            if (jsonNode.has(key)) {
+                jsonNode = jsonNode.path(key);
+            } else {
+                return null;
+            }
+        }
+
+        return jsonNode;
+    }
+
+    public boolean has(String... keyPath) {
+        return get(keyPath) != null;
+    }
+
+    /**
+     * Sub document at the provided slash separated path, e.g. <tt>customer/address</tt>
+     *
+     * @param path slash separated key path
+     * @return sub document, empty if the path is not present
+     */
+    public JsonDocument at(String path) {
+        JsonNode jsonNode = get(path.split("/"));
+        return jsonNode == null ? EMPTY : new JsonDocument(jsonNode);
+    }
+
+    /**
+     * Find all the provided keys in one go
+     *
+     * @param keys elements to find
+     * @return key to node mapping in the requested order, keys not present are left out
+     */
+    public Map<String, JsonNode> getAll(String... keys) {
+        Map<String, JsonNode> result = new LinkedHashMap<>(keys.length * 2);
+
+        for (String key : keys) {
+            JsonNode jsonNode = get(key);
+            if (jsonNode != null) {
+                result.put(key, jsonNode);
+            }
+        }
+
+        return result;
+    }
+
+    public String getAsString(String key) {
+        return getAsString(key, "");
+    }
+
+    public String getAsString(String key, String defaultValue) {
+        JsonNode jsonNode = get(key);
+        return jsonNode == null ? defaultValue : asString(jsonNode);
+    }
+
+    public int getAsInt(String key) {
+        return getAsInt(key, 0);
+    }
+
+    public int getAsInt(String key, int defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+        return jsonNode.isInt() ? jsonNode.intValue() : Integer.parseInt(asString(jsonNode));
+    }
+
+    public long getAsLong(String key) {
+        return getAsLong(key, 0L);
+    }
+
+    public long getAsLong(String key, long defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+        return jsonNode.isLong() ? jsonNode.longValue() : Long.parseLong(asString(jsonNode));
+    }
+
+    public double getAsDouble(String key) {
+        return getAsDouble(key, 0.0);
+    }
+
+    public double getAsDouble(String key, double defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+        return jsonNode.isDouble() ? jsonNode.doubleValue() : Double.parseDouble(asString(jsonNode));
+    }
+
+    public BigInteger getAsBigInteger(String key) {
+        return getAsBigInteger(key, BigInteger.ZERO);
+    }
+
+    public BigInteger getAsBigInteger(String key, BigInteger defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+        return jsonNode.isBigInteger() ? jsonNode.bigIntegerValue() : new BigInteger(asString(jsonNode));
+    }
+
+    public BigDecimal getAsBigDecimal(String key) {
+        return getAsBigDecimal(key, new BigDecimal(String.valueOf(0.00)));
+    }
+
+    public BigDecimal getAsBigDecimal(String key, BigDecimal defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+        return jsonNode.isBigDecimal() ? jsonNode.decimalValue() : new BigDecimal(asString(jsonNode));
+    }
+
+    public boolean getAsBoolean(String key) {
+        return getAsBoolean(key, false);
+    }
+
+    public boolean getAsBoolean(String key, boolean defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+
+        if (jsonNode.isBoolean()) {
+            return jsonNode.booleanValue();
+        }
+        if (jsonNode.isTextual()) {
+            String textValue = jsonNode.textValue();
+            return "1".equals(textValue) || BooleanUtils.toBoolean(textValue);
+        }
+        return BooleanUtils.toBoolean(jsonNode.intValue());
+    }
+
+    public byte[] getAsBytes(String key) {
+        return getAsBytes(key, null);
+    }
+
+    public byte[] getAsBytes(String key, byte[] defaultValue) {
+        JsonNode jsonNode = get(key);
+        if (jsonNode == null) {
+            return defaultValue;
+        }
+
+        try {
+            return jsonNode.isBinary() ? jsonNode.binaryValue() : asString(jsonNode).getBytes();
+        } catch (Exception e) {
+            throw new JsonException("Problem while reading as bytes - " + e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    private static String asString(JsonNode jsonNode) {
+        return jsonNode.isTextual() ? jsonNode.textValue() : jsonNode.toString();
+    }
+}
@@ -0,0 +1,276 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Incremental json reader for input which arrives in chunks, e.g. from a socket.
+ * <p>
+ * Chunks are handed to {@link #feed(byte[], int, int)} as they arrive and parsed right away by Jackson's non
+ * blocking parser. The tokens of the value in progress are kept in a {@link TokenBuffer}; once the value is
+ * complete it is bound and passed to the consumer, still inside the <tt>feed</tt> call which completed it. Only
+ * the tokens of the current value are held, never the whole body, and a chunk can be reused by the caller as soon
+ * as <tt>feed</tt> returns. A value may span any number of chunks and a chunk may hold any number of values.
+ * <p>
+ * {@link #values(Class, Consumer)} reads a single document as well as concatenated or newline delimited ones,
+ * {@link #arrayElements(Class, Consumer)} reads the elements of a top level array one at a time. Values which
+ * cannot be bound are reported to a {@link JsonStreams.ErrorHandler} like the readers of {@link JsonStreams}, with the
+ * offset of the first byte of the value; for a line that does not start with whitespace that is the offset
+ * {@link JsonStreams#readLines} reports. Malformed json ends the input
+ * after the handler returns. Instances are not thread safe.
+ */
+public final class JsonFeeder<T> implements AutoCloseable {
+
+    private static final int COPY_CHUNK = 8 * 1024;
+
+    /**
+     * Bytes by which the non blocking parser's token offsets run ahead of the token start, 1 in Jackson 2.15
+     */
+    private static final long TOKEN_OFFSET_SKEW = tokenOffsetSkew();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder input;
+    private final ObjectReader reader;
+    private final Consumer<? super T> consumer;
+    private final JsonStreams.ErrorHandler errorHandler;
+    /**
+     * Nesting depth at which bound values start: 0 for root values, 1 for the elements of a top level array
+     */
+    private final int valueDepth;
+
+    private TokenBuffer value;
+    private long valueOffset;
+    private int depth;
+    private long index;
+    private long bytes;
+    private byte[] copyBuffer;
+    private boolean ended;
+
+    private JsonFeeder(Class<T> type, Consumer<? super T> consumer, JsonStreams.ErrorHandler errorHandler,
+                       boolean arrayElements) {
+        try {
+            this.parser = JsonUtils.getObjectMapper().getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JsonException("Error while creating json parser - " + e);
+        }
+        this.input = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = JsonUtils.getMapperCache().reader(type);
+        this.consumer = consumer;
+        this.errorHandler = errorHandler;
+        this.valueDepth = arrayElements ? 1 : 0;
+    }
+
+    public static <T> JsonFeeder<T> values(Class<T> type, Consumer<? super T> consumer) {
+        return values(type, consumer, JsonStreams.FAIL);
+    }
+
+    /**
+     * Feeder for a single json document, or for many concatenated or newline delimited ones
+     *
+     * @param type         value type
+     * @param consumer     receives every value as soon as it is complete
+     * @param errorHandler handler for values which cannot be read
+     * @return <tt>feeder</tt>
+     */
+    public static <T> JsonFeeder<T> values(Class<T> type, Consumer<? super T> consumer,
+                                           JsonStreams.ErrorHandler errorHandler) {
+        return new JsonFeeder<>(type, consumer, errorHandler, false);
+    }
+
+    public static <T> JsonFeeder<T> arrayElements(Class<T> type, Consumer<? super T> consumer) {
+        return arrayElements(type, consumer, JsonStreams.FAIL);
+    }
+
+    /**
+     * Feeder for the elements of a top level json array, or of several concatenated arrays
+     *
+     * @param type         element type
+     * @param consumer     receives every element as soon as it is complete
+     * @param errorHandler handler for elements which cannot be read
+     * @return <tt>feeder</tt>
+     */
+    public static <T> JsonFeeder<T> arrayElements(Class<T> type, Consumer<? super T> consumer,
+                                                  JsonStreams.ErrorHandler errorHandler) {
+        return new JsonFeeder<>(type, consumer, errorHandler, true);
+    }
+
+    public void feed(byte[] chunk) {
+        feed(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Parse the next chunk of input, passing every value it completes to the consumer
+     *
+     * @throws JsonException through the default error handler when the chunk holds malformed json
+     * @throws IllegalStateException after {@link #end()}, or once malformed json has ended the input
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+        checkOpen();
+        if (length == 0) {
+            return;
+        }
+        try {
+            input.feedInput(chunk, offset, offset + length);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        bytes += length;
+        drain();
+    }
+
+    /**
+     * Parse the bytes between position and limit, the position is advanced to the limit. Heap buffers are parsed
+     * in place, direct buffers are copied in small pieces.
+     */
+    public void feed(ByteBuffer chunk) {
+        if (chunk.hasArray()) {
+            feed(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            chunk.position(chunk.limit());
+            return;
+        }
+        if (copyBuffer == null) {
+            copyBuffer = new byte[COPY_CHUNK];
+        }
+        while (chunk.hasRemaining()) {
+            int length = Math.min(copyBuffer.length, chunk.remaining());
+            chunk.get(copyBuffer, 0, length);
+            feed(copyBuffer, 0, length);
+        }
+    }
+
+    /**
+     * Signal the end of input, completing a trailing root number if there is one
+     *
+     * @throws JsonException through the default error handler when the input ends inside a value
+     */
+    public void end() {
+        checkOpen();
+        try {
+            input.endOfInput();
+            drain();
+            if (!ended && (depth > 0 || value != null)) {
+                errorHandler.onError(index, valueOffset,
+                        new JsonParseException(parser, "Unexpected end of input inside a json value"));
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * @return number of values read so far, including those which could not be bound
+     */
+    public long getValueCount() {
+        return index;
+    }
+
+    /**
+     * @return number of bytes fed so far
+     */
+    public long getByteCount() {
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        ended = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new JsonException("Error while closing json parser - " + e);
+        }
+    }
+
+    private void drain() {
+        try {
+            JsonToken token;
+            while (!ended && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                accept(token);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void accept(JsonToken token) throws IOException {
+        boolean opens = token.isStructStart();
+        boolean closes = token.isStructEnd();
+        if (value == null) {
+            if (closes) {
+                // end of the top level array around the elements
+                depth--;
+                return;
+            }
+            if (depth < valueDepth) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a top level json array but found " + token);
+                }
+                depth++;
+                return;
+            }
+            value = new TokenBuffer(parser);
+            valueOffset = parser.getTokenLocation().getByteOffset() - TOKEN_OFFSET_SKEW;
+        }
+
+        value.copyCurrentEvent(parser);
+        if (opens) {
+            depth++;
+        } else if (closes) {
+            depth--;
+        }
+        if (depth == valueDepth) {
+            emit();
+        }
+    }
+
+    private void emit() throws IOException {
+        TokenBuffer complete = value;
+        value = null;
+        long valueIndex = index++;
+        T bound;
+        try (JsonParser tokens = complete.asParser()) {
+            bound = reader.readValue(tokens);
+        } catch (JsonMappingException e) {
+            errorHandler.onError(valueIndex, valueOffset, e);
+            return;
+        }
+        consumer.accept(bound);
+    }
+
+    private void fail(IOException cause) {
+        ended = true;
+        try {
+            errorHandler.onError(index, valueOffset, cause);
+        } finally {
+            close();
+        }
+    }
+
+    private static long tokenOffsetSkew() {
+        byte[] value = {'{', '}'};
+        try (JsonParser probe = JsonUtils.getObjectMapper().getFactory().createNonBlockingByteArrayParser()) {
+            ((ByteArrayFeeder) probe.getNonBlockingInputFeeder()).feedInput(value, 0, value.length);
+            probe.nextToken();
+            return probe.getTokenLocation().getByteOffset();
+        } catch (IOException e) {
+            throw new JsonException("Error while creating json parser - " + e);
+        }
+    }
+
+    private void checkOpen() {
+        if (ended) {
+            throw new IllegalStateException("Json input has ended");
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.akg.utility;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in call counts, error counts, payload sizes and latency histograms of the serialization entry points, per
+ * operation and per target class.
+ * <p>
+ * Recording is off unless <tt>json.metrics.enabled</tt> is <tt>true</tt> or {@link #setEnabled(boolean)} turns it
+ * on; while off an entry point only reads one volatile flag. Counters are {@link LongAdder}s, so threads recording
+ * at the same time do not contend, and latencies go into power of two buckets, which bounds a percentile to within
+ * a factor of two of the real value. The numbers are published as the MXBean
+ * <tt>com.akg.utility:type=JsonMetrics</tt> once recording is first enabled, and {@link #snapshot()} returns them
+ * to callers.
+ * <p>
+ * An entry point records a call as
+ * <pre>
+ * long start = JsonMetrics.start();
+ * try {
+ *     T value = read(json);
+ *     JsonMetrics.success(Operation.FROM_JSON, type, start, json.length());
+ *     return value;
+ * } catch (RuntimeException e) {
+ *     JsonMetrics.failure(Operation.FROM_JSON, type, start);
+ *     throw e;
+ * }
+ * </pre>
+ */
+public final class JsonMetrics {
+
+    public static final String ENABLED_PROPERTY = "json.metrics.enabled";
+    public static final String OBJECT_NAME = "com.akg.utility:type=JsonMetrics";
+
+    /**
+     * Returned by {@link #start()} while recording is off, the calls taking it record nothing
+     */
+    public static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonMetrics.class);
+
+    private static final int BUCKETS = 64;
+
+    public enum Operation {
+        TO_JSON("toJson"),
+        FROM_JSON("fromJson"),
+        JSON_TO_OBJECT("jsonToObject"),
+        UNWRAP_JSON_TO_OBJECT("unwrapJsonToObject"),
+        MESSAGE_PACK_SERIALIZE("messagePackSerialize"),
+        MESSAGE_PACK_DESERIALIZE("messagePackDeserialize"),
+        XML_TO_OBJECT("xmlByteToObject"),
+        XML_STREAM_TO_OBJECT("xmlToObject"),
+        VALIDATE("validateRequest"),
+        DISTANCE("getDistance");
+
+        private final String methodName;
+
+        Operation(String methodName) {
+            this.methodName = methodName;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+    }
+
+    private static final Map<Operation, Stats> OPERATIONS = new EnumMap<>(Operation.class);
+    private static final Map<Operation, ConcurrentMap<Class<?>, Stats>> TARGETS = new EnumMap<>(Operation.class);
+
+    private static volatile boolean enabled;
+    private static boolean registered;
+
+    static {
+        for (Operation operation : Operation.values()) {
+            OPERATIONS.put(operation, new Stats());
+            TARGETS.put(operation, new ConcurrentHashMap<>());
+        }
+        setEnabled(Boolean.getBoolean(ENABLED_PROPERTY));
+    }
+
+    private JsonMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn recording on or off; what was recorded so far is kept
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+        if (enable) {
+            register();
+        }
+    }
+
+    /**
+     * @return start time of a call, or {@link #NOT_RECORDED} while recording is off
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : NOT_RECORDED;
+    }
+
+    /**
+     * Record a call which completed
+     *
+     * @param target class read or written, <tt>null</tt> when there is none
+     * @param size   payload size in bytes, characters for string payloads, or <tt>-1</tt> when unknown
+     */
+    public static void success(Operation operation, Class<?> target, long start, long size) {
+        if (start != NOT_RECORDED) {
+            record(operation, target, System.nanoTime() - start, size, false);
+        }
+    }
+
+    /**
+     * Record a call which threw
+     */
+    public static void failure(Operation operation, Class<?> target, long start) {
+        if (start != NOT_RECORDED) {
+            record(operation, target, System.nanoTime() - start, -1, true);
+        }
+    }
+
+    /**
+     * @return one snapshot per operation, followed by one per operation and target class, slowest in total first
+     */
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = operations();
+        snapshots.addAll(targets());
+        return snapshots;
+    }
+
+    public static Snapshot snapshot(Operation operation) {
+        return OPERATIONS.get(operation).snapshot(operation, null);
+    }
+
+    public static Snapshot snapshot(Operation operation, Class<?> target) {
+        Stats stats = TARGETS.get(operation).get(target);
+        return (stats != null ? stats : new Stats()).snapshot(operation, target);
+    }
+
+    /**
+     * Forget everything recorded so far. Calls in flight may still be counted afterwards.
+     */
+    public static void reset() {
+        for (Operation operation : Operation.values()) {
+            OPERATIONS.get(operation).reset();
+            TARGETS.get(operation).clear();
+        }
+    }
+
+    private static List<Snapshot> operations() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            snapshots.add(OPERATIONS.get(operation).snapshot(operation, null));
+        }
+        return snapshots;
+    }
+
+    private static List<Snapshot> targets() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            TARGETS.get(operation).forEach((target, stats) -> snapshots.add(stats.snapshot(operation, target)));
+        }
+        snapshots.sort(Comparator.comparingLong(Snapshot::getTotalNanos).reversed());
+        return snapshots;
+    }
+
+    private static void record(Operation operation, Class<?> target, long nanos, long size, boolean error) {
+        OPERATIONS.get(operation).record(nanos, size, error);
+        if (target != null) {
+            ConcurrentMap<Class<?>, Stats> targets = TARGETS.get(operation);
+            Stats stats = targets.get(target);
+            if (stats == null) {
+                stats = targets.computeIfAbsent(target, key -> new Stats());
+            }
+            stats.record(nanos, size, error);
+        }
+    }
+
+    private static synchronized void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MXBean(), name);
+            }
+        } catch (JMException | RuntimeException e) {
+            LOGGER.warn("Could not register {} - {}", OBJECT_NAME, e.getMessage());
+        }
+    }
+
+    private static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static final class Stats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder sized = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        private Stats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos, long size, boolean error) {
+            calls.increment();
+            if (error) {
+                errors.increment();
+            }
+            if (size >= 0) {
+                bytes.add(size);
+                sized.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram[bucket(nanos)].increment();
+        }
+
+        private void reset() {
+            calls.reset();
+            errors.reset();
+            bytes.reset();
+            sized.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+
+        private Snapshot snapshot(Operation operation, Class<?> target) {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+            }
+            return new Snapshot(operation, target, calls.sum(), errors.sum(), bytes.sum(), sized.sum(),
+                    totalNanos.sum(), maxNanos.get(), counts);
+        }
+    }
+
+    /**
+     * Recorded numbers of one operation, or of one operation and target class, at the time it was taken. The
+     * counters are read one after the other while calls may still be recorded, so they can be off by a few calls.
+     */
+    public static final class Snapshot {
+
+        private final Operation operation;
+        private final Class<?> target;
+        private final long calls;
+        private final long errors;
+        private final long bytes;
+        private final long sized;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] histogram;
+
+        private Snapshot(Operation operation, Class<?> target, long calls, long errors, long bytes, long sized,
+                         long totalNanos, long maxNanos, long[] histogram) {
+            this.operation = operation;
+            this.target = target;
+            this.calls = calls;
+            this.errors = errors;
+            this.bytes = bytes;
+            this.sized = sized;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        public String getOperation() {
+            return operation.getMethodName();
+        }
+
+        /**
+         * @return name of the target class, <tt>null</tt> for the totals of the operation
+         */
+        public String getTargetClass() {
+            return target == null ? null : target.getName();
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return mean payload size of the calls whose size is known
+         */
+        public long getMeanBytes() {
+            return sized == 0 ? 0 : bytes / sized;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getP50Nanos() {
+            return percentileNanos(0.50);
+        }
+
+        public long getP99Nanos() {
+            return percentileNanos(0.99);
+        }
+
+        /**
+         * @return upper bound of the latency bucket holding the percentile, at most the largest latency seen
+         */
+        public long percentileNanos(double percentile) {
+            long count = 0;
+            for (long bucket : histogram) {
+                count += bucket;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile * count));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    long upper = i == 0 ? 0 : i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+                    return Math.min(upper, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * @return number of calls per latency bucket; bucket <tt>i</tt> counts latencies from
+         * <tt>2<sup>i-1</sup></tt> up to <tt>2<sup>i</sup> - 1</tt> nanoseconds
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return getOperation() + (target == null ? "" : " " + target.getName()) + " calls=" + calls
+                    + " errors=" + errors + " meanBytes=" + getMeanBytes() + " meanNanos=" + getMeanNanos()
+                    + " p50Nanos=" + getP50Nanos() + " p99Nanos=" + getP99Nanos() + " maxNanos=" + maxNanos;
+        }
+    }
+
+    private static final class MXBean implements JsonMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return JsonMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            JsonMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public List<Snapshot> getOperations() {
+            return operations();
+        }
+
+        @Override
+        public List<Snapshot> getTargetClasses() {
+            return targets();
+        }
+
+        @Override
+        public void reset() {
+            JsonMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.akg.utility;
+
+import java.util.List;
+
+/**
+ * Management view of {@link JsonMetrics}, registered as <tt>com.akg.utility:type=JsonMetrics</tt>
+ */
+public interface JsonMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    List<JsonMetrics.Snapshot> getOperations();
+
+    /**
+     * @return numbers per operation and target class, slowest in total first
+     */
+    List<JsonMetrics.Snapshot> getTargetClasses();
+
+    void reset();
+}
@@ -0,0 +1,324 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered list of <a href="https://tools.ietf.org/html/rfc6902">RFC 6902</a> json patch operations, applied to a
+ * payload in one go so that chained edits cost a single parse and serialization.
+ * <p>
+ * Build one with {@link #builder()} or {@link #fromJson(String)} and apply it through
+ * {@link JsonUtils#patch(String, JsonPatch)}. {@link #mergePatch(JsonNode, JsonNode)} implements
+ * <a href="https://tools.ietf.org/html/rfc7386">RFC 7386</a> merge patch.
+ */
+public final class JsonPatch {
+
+    /**
+     * Equality of the <tt>test</tt> operation: numbers compare by value, so <tt>1</tt> equals <tt>1.0</tt>
+     */
+    private static final Comparator<JsonNode> NUMERIC_VALUE = (left, right) -> {
+        if (left.isNumber() && right.isNumber()) {
+            return left.decimalValue().compareTo(right.decimalValue());
+        }
+        return left.equals(right) ? 0 : 1;
+    };
+
+    private final List<Operation> operations;
+
+    private JsonPatch(List<Operation> operations) {
+        this.operations = Collections.unmodifiableList(operations);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Read a json patch document, i.e. an array of <tt>{"op": .., "path": ..}</tt> objects
+     *
+     * @param patchJson json patch document
+     * @return <tt>json patch</tt>
+     */
+    public static JsonPatch fromJson(String patchJson) {
+        JsonNode patchNode = JsonUtils.fromJson(patchJson, JsonNode.class);
+        if (!patchNode.isArray()) {
+            throw new JsonException("Json patch must be an array of operations");
+        }
+
+        List<Operation> operations = new ArrayList<>(patchNode.size());
+        for (JsonNode operation : patchNode) {
+            String op = operation.path("op").asText();
+            OperationType type;
+            try {
+                type = OperationType.valueOf(op.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new JsonException("Unknown json patch operation - " + op);
+            }
+            operations.add(new Operation(type, pointer(operation, "path"),
+                    type.hasFrom ? pointer(operation, "from") : null,
+                    type.hasValue ? operation.get("value") : null));
+        }
+        return new JsonPatch(operations);
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Apply all the operations in order. The target is modified in place, a patch on the root path may replace
+     * it, so always continue with the returned node.
+     *
+     * @param target json to patch
+     * @return patched json
+     */
+    public JsonNode apply(JsonNode target) {
+        JsonNode root = target;
+        for (Operation operation : operations) {
+            root = operation.apply(root);
+        }
+        return root;
+    }
+
+    /**
+     * Apply a merge patch: objects are merged recursively, null values remove keys and anything else replaces
+     * the target value. The target is modified in place where possible.
+     *
+     * @param target json to patch
+     * @param patch  merge patch
+     * @return patched json
+     */
+    public static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode result = target != null && target.isObject()
+                ? (ObjectNode) target : JsonUtils.getObjectMapper().createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), mergePatch(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    private static JsonPointer pointer(JsonNode operation, String field) {
+        JsonNode value = operation.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new JsonException("Json patch operation is missing '" + field + "' - " + operation);
+        }
+        return compile(value.textValue());
+    }
+
+    private static JsonPointer compile(String path) {
+        try {
+            return JsonPointer.compile(path);
+        } catch (IllegalArgumentException e) {
+            throw new JsonException("Invalid json pointer - " + path);
+        }
+    }
+
+    public enum OperationType {
+        ADD(false, true),
+        REMOVE(false, false),
+        REPLACE(false, true),
+        MOVE(true, false),
+        COPY(true, false),
+        TEST(false, true);
+
+        private final boolean hasFrom;
+        private final boolean hasValue;
+
+        OperationType(boolean hasFrom, boolean hasValue) {
+            this.hasFrom = hasFrom;
+            this.hasValue = hasValue;
+        }
+    }
+
+    public static final class Operation {
+
+        private final OperationType type;
+        private final JsonPointer path;
+        private final JsonPointer from;
+        private final JsonNode value;
+
+        private Operation(OperationType type, JsonPointer path, JsonPointer from, JsonNode value) {
+            if (type.hasValue && value == null) {
+                throw new JsonException("Json patch " + type + " operation is missing 'value' - " + path);
+            }
+            this.type = type;
+            this.path = path;
+            this.from = from;
+            this.value = value;
+        }
+
+        public OperationType getType() {
+            return type;
+        }
+
+        public String getPath() {
+            return path.toString();
+        }
+
+        public String getFrom() {
+            return from == null ? null : from.toString();
+        }
+
+        public JsonNode getValue() {
+            return value;
+        }
+
+        private JsonNode apply(JsonNode root) {
+            switch (type) {
+                case ADD:
+                    return add(root, path, value.deepCopy());
+                case REMOVE:
+                    remove(root, path);
+                    return root;
+                case REPLACE:
+                    existing(root, path);
+                    if (path.matches()) {
+                        return value.deepCopy();
+                    }
+                    replace(root, path, value.deepCopy());
+                    return root;
+                case MOVE:
+                    if (path.toString().startsWith(from.toString() + "/")) {
+                        throw new JsonException("Json patch cannot move " + from + " into its own child " + path);
+                    }
+                    JsonNode moved = existing(root, from);
+                    if (from.equals(path)) {
+                        return root;
+                    }
+                    remove(root, from);
+                    return add(root, path, moved);
+                case COPY:
+                    return add(root, path, existing(root, from).deepCopy());
+                case TEST:
+                    if (!value.equals(NUMERIC_VALUE, existing(root, path))) {
+                        throw new JsonException("Json patch test failed at " + path);
+                    }
+                    return root;
+                default:
+                    throw new IllegalStateException("Unsupported json patch operation " + type);
+            }
+        }
+
+        private static JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+            if (path.matches()) {
+                return value;
+            }
+
+            JsonNode parent = root.at(path.head());
+            String key = path.last().getMatchingProperty();
+            if (parent.isObject()) {
+                ((ObjectNode) parent).set(key, value);
+            } else if (parent.isArray()) {
+                ArrayNode array = (ArrayNode) parent;
+                if ("-".equals(key)) {
+                    array.add(value);
+                } else {
+                    int index = path.last().getMatchingIndex();
+                    if (index < 0 || index > array.size()) {
+                        throw new JsonException("Json patch array index out of bounds - " + path);
+                    }
+                    array.insert(index, value);
+                }
+            } else {
+                throw new JsonException("Json patch parent does not exist - " + path);
+            }
+            return root;
+        }
+
+        private static void replace(JsonNode root, JsonPointer path, JsonNode value) {
+            JsonNode parent = root.at(path.head());
+            if (parent.isObject()) {
+                ((ObjectNode) parent).set(path.last().getMatchingProperty(), value);
+            } else {
+                ((ArrayNode) parent).set(path.last().getMatchingIndex(), value);
+            }
+        }
+
+        private static void remove(JsonNode root, JsonPointer path) {
+            if (path.matches()) {
+                throw new JsonException("Json patch cannot remove the root node");
+            }
+
+            existing(root, path);
+            JsonNode parent = root.at(path.head());
+            if (parent.isObject()) {
+                ((ObjectNode) parent).remove(path.last().getMatchingProperty());
+            } else {
+                ((ArrayNode) parent).remove(path.last().getMatchingIndex());
+            }
+        }
+
+        private static JsonNode existing(JsonNode root, JsonPointer path) {
+            JsonNode node = root.at(path);
+            if (node.isMissingNode()) {
+                throw new JsonException("Json patch path does not exist - " + path);
+            }
+            return node;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Operation> operations = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String path, Object value) {
+            return operation(OperationType.ADD, path, null, value);
+        }
+
+        public Builder remove(String path) {
+            return operation(OperationType.REMOVE, path, null, null);
+        }
+
+        public Builder replace(String path, Object value) {
+            return operation(OperationType.REPLACE, path, null, value);
+        }
+
+        public Builder move(String from, String path) {
+            return operation(OperationType.MOVE, path, from, null);
+        }
+
+        public Builder copy(String from, String path) {
+            return operation(OperationType.COPY, path, from, null);
+        }
+
+        public Builder test(String path, Object value) {
+            return operation(OperationType.TEST, path, null, value);
+        }
+
+        public JsonPatch build() {
+            return new JsonPatch(new ArrayList<>(operations));
+        }
+
+        private Builder operation(OperationType type, String path, String from, Object value) {
+            JsonNode node = type.hasValue ? JsonUtils.getObjectMapper().valueToTree(value) : null;
+            if (type.hasValue && node == null) {
+                node = JsonUtils.getObjectMapper().nullNode();
+            }
+            operations.add(new Operation(type, compile(path), from == null ? null : compile(from), node));
+            return this;
+        }
+    }
+}
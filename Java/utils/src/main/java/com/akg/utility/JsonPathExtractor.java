@@ -0,0 +1,146 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Extract values at key paths by walking the json token stream, without building a tree for the whole payload.
+ * <p>
+ * Objects which are not on any requested path are skipped and only the matched values are materialized. Paths
+ * follow the same rules as {@link JsonUtils#filterJsonNodeByPath(JsonNode, String)}: keys are separated by
+ * <tt>/</tt> and only object fields are followed. The root object is read to its end so that, like reading the
+ * tree with the shared mapper, a key repeated anywhere in it fails the extraction with a {@link JsonException}.
+ */
+public final class JsonPathExtractor {
+
+    private JsonPathExtractor() {
+    }
+
+    /**
+     * Find the node at the provided key path
+     *
+     * @param json    input json
+     * @param keyPath keys to follow from the root object
+     * @return JsonNode {@link JsonNode} or null if the path is not present, the root node for an empty path
+     */
+    public static JsonNode extract(String json, String... keyPath) {
+        if (keyPath.length == 0) {
+            return JsonUtils.fromJson(json, JsonNode.class);
+        }
+        PathNode root = new PathNode();
+        root.add(keyPath, "");
+        return extract(json, root).get("");
+    }
+
+    /**
+     * Find all the provided slash separated paths in a single pass over the input json
+     *
+     * @param json  input json
+     * @param paths slash separated key paths, e.g. <tt>customer/address/city</tt>
+     * @return path to node mapping in the requested order, paths not present are left out
+     */
+    public static Map<String, JsonNode> extractPaths(String json, String... paths) {
+        PathNode root = new PathNode();
+        for (String path : paths) {
+            root.add(path.split("/"), path);
+        }
+
+        Map<String, JsonNode> found = extract(json, root);
+        Map<String, JsonNode> result = new LinkedHashMap<>(paths.length * 2);
+        for (String path : paths) {
+            JsonNode jsonNode = found.get(path);
+            if (jsonNode != null) {
+                result.put(path, jsonNode);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, JsonNode> extract(String json, PathNode root) {
+        ObjectMapper objectMapper = JsonUtils.getObjectMapper();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            parser.enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION.mappedFeature());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Collections.emptyMap();
+            }
+            Extraction extraction = new Extraction(objectMapper);
+            extraction.walkObject(parser, root);
+            return extraction.found;
+        } catch (IOException e) {
+            throw new JsonException("Error while extracting json paths - " + e);
+        }
+    }
+
+    private static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+        private String path;
+
+        private void add(String[] keys, String path) {
+            PathNode node = this;
+            for (String key : keys) {
+                node = node.children.computeIfAbsent(key, k -> new PathNode());
+            }
+            if (node.path == null) {
+                node.path = path;
+            }
+        }
+    }
+
+    private static final class Extraction {
+
+        private final ObjectMapper objectMapper;
+        private final Map<String, JsonNode> found = new HashMap<>();
+
+        private Extraction(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        /**
+         * Walk the object the parser is positioned on, to its end
+         */
+        private void walkObject(JsonParser parser, PathNode pathNode) throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                PathNode child = pathNode.children.get(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+
+                if (child == null || (child.path != null && found.containsKey(child.path))) {
+                    parser.skipChildren();
+                } else if (child.path != null) {
+                    JsonNode value = objectMapper.readTree(parser);
+                    found.put(child.path, value);
+                    collectNested(JsonDocument.of(value), child);
+                } else if (token == JsonToken.START_OBJECT) {
+                    walkObject(parser, child);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void collectNested(JsonDocument document, PathNode pathNode) {
+            for (Map.Entry<String, PathNode> entry : pathNode.children.entrySet()) {
+                JsonNode value = document.get(entry.getKey());
+                if (value == null) {
+                    continue;
+                }
+                PathNode child = entry.getValue();
+                if (child.path != null && !found.containsKey(child.path)) {
+                    found.put(child.path, value);
+                }
+                collectNested(JsonDocument.of(value), child);
+            }
+        }
+    }
+}
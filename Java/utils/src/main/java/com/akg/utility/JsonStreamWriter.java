@@ -0,0 +1,83 @@
+package com.akg.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Appends records to a json array or to newline delimited json as they are produced, without holding the whole
+ * collection in memory. Obtain one from {@link JsonStreams#arrayWriter} or {@link JsonStreams#lineWriter}.
+ */
+public final class JsonStreamWriter implements Closeable, Flushable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final boolean array;
+    private long count;
+
+    JsonStreamWriter(JsonGenerator generator, boolean array) throws IOException {
+        this.generator = generator;
+        this.writer = JsonUtils.getObjectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.array = array;
+        if (array) {
+            generator.writeStartArray();
+        } else {
+            generator.setRootValueSeparator(null);
+        }
+    }
+
+    public JsonStreamWriter write(Object record) throws IOException {
+        writer.writeValue(generator, record);
+        if (!array) {
+            generator.writeRaw('\n');
+        }
+        count++;
+        return this;
+    }
+
+    public JsonStreamWriter writeAll(Iterable<?> records) throws IOException {
+        return writeAll(records.iterator());
+    }
+
+    public JsonStreamWriter writeAll(Stream<?> records) throws IOException {
+        return writeAll(records.iterator());
+    }
+
+    private JsonStreamWriter writeAll(Iterator<?> records) throws IOException {
+        while (records.hasNext()) {
+            write(records.next());
+        }
+        return this;
+    }
+
+    /**
+     * Number of records written so far
+     *
+     * @return record count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator.isClosed()) {
+            return;
+        }
+        if (array) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+}
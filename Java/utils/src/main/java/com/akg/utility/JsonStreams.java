@@ -0,0 +1,372 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy readers and writers for json documents which hold many records: a top level json array or newline
+ * delimited json (one document per line).
+ * <p>
+ * Records are bound one at a time while the returned {@link Stream} is consumed, so memory use does not depend on
+ * the size of the input. The streams hold the underlying input open, always close them, e.g. with
+ * try-with-resources. Records which cannot be bound are reported to an {@link ErrorHandler} together with their
+ * index and byte offset, the handler decides whether reading goes on.
+ */
+public final class JsonStreams {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonStreams.class);
+
+    /**
+     * Abort reading with a {@link JsonException} on the first bad record
+     */
+    public static final ErrorHandler FAIL = (index, byteOffset, cause) -> {
+        throw new JsonException("Error while reading json record " + index + " at byte " + byteOffset + " - " + cause);
+    };
+
+    /**
+     * Log and skip bad records
+     */
+    public static final ErrorHandler SKIP = (index, byteOffset, cause) ->
+            LOGGER.warn("Skipping json record {} at byte {} - {}", index, byteOffset, cause.getMessage());
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Decides what happens to a record which could not be read
+     */
+    @FunctionalInterface
+    public interface ErrorHandler {
+
+        /**
+         * Return normally to skip the record and continue, throw to stop reading.
+         * Malformed json inside an array cannot be skipped, reading ends after the handler returns.
+         *
+         * @param index      zero based record index
+         * @param byteOffset byte offset of the record in the input
+         * @param cause      parse or binding failure
+         */
+        void onError(long index, long byteOffset, Exception cause);
+    }
+
+    public static <T> Stream<T> readArray(Path file, Class<T> type) throws IOException {
+        return readArray(file, type, FAIL);
+    }
+
+    public static <T> Stream<T> readArray(Path file, Class<T> type, ErrorHandler errorHandler) throws IOException {
+        return readArray(Files.newInputStream(file), type, errorHandler);
+    }
+
+    public static <T> Stream<T> readArray(InputStream in, Class<T> type) throws IOException {
+        return readArray(in, type, FAIL);
+    }
+
+    /**
+     * Stream the elements of a top level json array. The input stream is closed with the returned stream.
+     *
+     * @param in           json array input
+     * @param type         element type
+     * @param errorHandler handler for elements which cannot be read
+     * @return <tt>lazy stream of elements</tt>
+     */
+    public static <T> Stream<T> readArray(InputStream in, Class<T> type, ErrorHandler errorHandler) throws IOException {
+        JsonParser parser = JsonUtils.getObjectMapper().getFactory().createParser(in);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonException("Error while reading json array - input does not start with an array");
+            }
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        return stream(new ArrayIterator<>(parser, JsonUtils.getMapperCache().reader(type), errorHandler));
+    }
+
+    public static <T> Stream<T> readLines(Path file, Class<T> type) throws IOException {
+        return readLines(file, type, FAIL);
+    }
+
+    public static <T> Stream<T> readLines(Path file, Class<T> type, ErrorHandler errorHandler) throws IOException {
+        return readLines(Files.newInputStream(file), type, errorHandler);
+    }
+
+    public static <T> Stream<T> readLines(InputStream in, Class<T> type) {
+        return readLines(in, type, FAIL);
+    }
+
+    /**
+     * Stream the records of newline delimited json, blank lines are ignored. Every line is parsed on its own so a
+     * malformed line can be skipped. The input stream is closed with the returned stream.
+     *
+     * @param in           newline delimited json input
+     * @param type         record type
+     * @param errorHandler handler for lines which cannot be read
+     * @return <tt>lazy stream of records</tt>
+     */
+    public static <T> Stream<T> readLines(InputStream in, Class<T> type, ErrorHandler errorHandler) {
+        return stream(new LineIterator<>(in, JsonUtils.getMapperCache().reader(type), errorHandler));
+    }
+
+    public static JsonStreamWriter arrayWriter(Path file) throws IOException {
+        return arrayWriter(Files.newOutputStream(file));
+    }
+
+    /**
+     * Writer which appends records to a json array, the array is closed when the writer is closed
+     *
+     * @param out target stream, closed with the writer
+     * @return <tt>record writer</tt>
+     */
+    public static JsonStreamWriter arrayWriter(OutputStream out) throws IOException {
+        return new JsonStreamWriter(JsonUtils.getObjectMapper().getFactory().createGenerator(out), true);
+    }
+
+    public static JsonStreamWriter lineWriter(Path file) throws IOException {
+        return lineWriter(Files.newOutputStream(file));
+    }
+
+    /**
+     * Writer which appends records as newline delimited json
+     *
+     * @param out target stream, closed with the writer
+     * @return <tt>record writer</tt>
+     */
+    public static JsonStreamWriter lineWriter(OutputStream out) throws IOException {
+        return new JsonStreamWriter(JsonUtils.getObjectMapper().getFactory().createGenerator(out), false);
+    }
+
+    private static <T> Stream<T> stream(RecordIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private abstract static class RecordIterator<T> implements Iterator<T> {
+
+        final ObjectReader reader;
+        final ErrorHandler errorHandler;
+        long index;
+        private T next;
+        private boolean ready;
+        boolean done;
+
+        RecordIterator(ObjectReader reader, ErrorHandler errorHandler) {
+            this.reader = reader;
+            this.errorHandler = errorHandler;
+        }
+
+        /**
+         * Read the next record into {@link #offer(Object)}
+         *
+         * @return false when there are no more records
+         */
+        abstract boolean advance() throws IOException;
+
+        abstract void closeSource() throws IOException;
+
+        void offer(T value) {
+            next = value;
+            ready = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+            try {
+                while (!ready && !done) {
+                    if (!advance()) {
+                        done = true;
+                    }
+                }
+            } catch (IOException e) {
+                done = true;
+                throw new UncheckedIOException(e);
+            }
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next;
+            next = null;
+            ready = false;
+            return value;
+        }
+
+        void close() {
+            done = true;
+            try {
+                closeSource();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class ArrayIterator<T> extends RecordIterator<T> {
+
+        private final JsonParser parser;
+        private final JsonStreamContext arrayContext;
+
+        private ArrayIterator(JsonParser parser, ObjectReader reader, ErrorHandler errorHandler) {
+            super(reader, errorHandler);
+            this.parser = parser;
+            this.arrayContext = parser.getParsingContext();
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            long byteOffset = -1L;
+            long recordIndex = index;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return false;
+                }
+                byteOffset = parser.getTokenLocation().getByteOffset();
+                index++;
+                offer(reader.readValue(parser));
+            } catch (JsonParseException e) {
+                errorHandler.onError(recordIndex, byteOffset < 0 ? parser.getTokenLocation().getByteOffset() : byteOffset, e);
+                return false;
+            } catch (JsonMappingException e) {
+                errorHandler.onError(recordIndex, byteOffset, e);
+                while (parser.getParsingContext() != arrayContext) {
+                    if (parser.nextToken() == null) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void closeSource() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class LineIterator<T> extends RecordIterator<T> {
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[65536];
+        private int position;
+        private int limit;
+        private byte[] line = new byte[0];
+        private long offset;
+
+        private LineIterator(InputStream in, ObjectReader reader, ErrorHandler errorHandler) {
+            super(reader, errorHandler);
+            this.in = in;
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            long lineOffset = offset;
+            byte[] source = buffer;
+            int start = position;
+            int length = 0;
+            boolean carried = false;
+
+            while (true) {
+                if (position == limit) {
+                    if (length > 0 && !carried) {
+                        carry(source, start, length, 0);
+                        carried = true;
+                    }
+                    limit = Math.max(in.read(buffer), 0);
+                    position = 0;
+                    start = 0;
+                    if (limit == 0) {
+                        break;
+                    }
+                }
+
+                int from = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                int read = position - from;
+                offset += read;
+                if (carried) {
+                    carry(buffer, from, read, length);
+                }
+                length += read;
+
+                if (position < limit) {
+                    position++;
+                    offset++;
+                    break;
+                }
+            }
+
+            if (carried) {
+                source = line;
+                start = 0;
+            }
+            if (limit == 0 && length == 0) {
+                return false;
+            }
+            if (isBlank(source, start, length)) {
+                return true;
+            }
+
+            long recordIndex = index++;
+            try {
+                offer(reader.readValue(source, start, length));
+            } catch (JsonParseException | JsonMappingException e) {
+                errorHandler.onError(recordIndex, lineOffset, e);
+            }
+            return true;
+        }
+
+        private void carry(byte[] source, int start, int length, int at) {
+            if (at + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(at + length, line.length << 1));
+            }
+            System.arraycopy(source, start, line, at, length);
+        }
+
+        private static boolean isBlank(byte[] source, int start, int length) {
+            for (int i = start; i < start + length; i++) {
+                if ((source[i] & 0xFF) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void closeSource() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,798 @@
+package com.akg.utility;
+
+import com.akg.utility.JsonMetrics.Operation;
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.ConstraintViolation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+public class JsonUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonUtils.class);
+
+    private static ObjectMapper objectMapper;
+    private static MapperCache mapperCache;
+    private static final XmlMapper XML_MAPPER = new XmlMapper();
+    private static final MapperCache XML_MAPPER_CACHE = new MapperCache(XML_MAPPER);
+    private static final PayloadValidator PAYLOAD_VALIDATOR = PayloadValidator.builder().build();
+    private static final JsonBatch JSON_BATCH = JsonBatch.builder().build();
+
+    static {
+        try {
+            objectMapper = initMapper();
+            mapperCache = new MapperCache(objectMapper);
+        } catch (Exception e) {
+            LOGGER.error("Problem while loading json config - {}", e.getMessage());
+        }
+    }
+
+    private JsonUtils() {
+    }
+
+    private static ObjectMapper initMapper() {
+        return newMapper(MapperProfile.fromSystemProperty());
+    }
+
+    /**
+     * Build a mapper with the configuration used by this class
+     *
+     * @param profile {@link MapperProfile} deciding how bean properties are accessed
+     * @return <tt>configured mapper</tt>
+     */
+    public static ObjectMapper newMapper(MapperProfile profile) {
+        JsonMapper.Builder builder = JsonMapper.builder();
+        Module accessorModule = profile.accessorModule();
+        if (accessorModule != null) {
+            builder.addModule(accessorModule);
+        }
+        return initMapperConfig(builder.build());
+    }
+
+    private static ObjectMapper initMapperConfig(ObjectMapper objectMapper) {
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(SerializationFeature.INDENT_OUTPUT, false);
+
+        objectMapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        objectMapper.enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+        objectMapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
+        objectMapper.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+        objectMapper.registerModule(new JavaTimeModule());
+        return objectMapper;
+    }
+
+    static ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    static MapperCache getMapperCache() {
+        return mapperCache;
+    }
+
+    static XmlMapper getXmlMapper() {
+        return XML_MAPPER;
+    }
+
+    /**
+     * Unmarshalling json to provided type after removing every backslash from the input.
+     * Prefer {@link #unwrapJsonToObject(String, Class)} for stringified json, it keeps escaped content intact.
+     *
+     * @param jsonAsString     input json
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type jsonToObject(final String jsonAsString, final Class<Type> destinationClass) throws JsonProcessingException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = mapperCache.reader(destinationClass).readValue(jsonAsString.replaceAll("\\\\", ""));
+            JsonMetrics.success(Operation.JSON_TO_OBJECT, destinationClass, start, jsonAsString.length());
+            return value;
+        } catch (JsonProcessingException | RuntimeException e) {
+            JsonMetrics.failure(Operation.JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Unmarshalling utf encoded json bytes to provided type, without decoding them to a string first
+     *
+     * @param content          json bytes
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type jsonToObject(final byte[] content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = mapperCache.reader(destinationClass).readValue(content);
+            JsonMetrics.success(Operation.JSON_TO_OBJECT, destinationClass, start, content.length);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Unmarshalling the remaining bytes of the buffer to provided type. The buffer position is left unchanged
+     * and heap buffers are read in place without copying.
+     *
+     * @param content          json bytes between position and limit
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type jsonToObject(final ByteBuffer content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = content.hasArray()
+                    ? mapperCache.reader(destinationClass).readValue(content.array(),
+                    content.arrayOffset() + content.position(), content.remaining())
+                    : mapperCache.reader(destinationClass).readValue(new ByteBufferBackedInputStream(content.duplicate()));
+            JsonMetrics.success(Operation.JSON_TO_OBJECT, destinationClass, start, content.remaining());
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Unmarshalling json read from the stream to provided type. The stream is closed once read.
+     *
+     * @param content          json stream
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type jsonToObject(final InputStream content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = mapperCache.reader(destinationClass).readValue(content);
+            JsonMetrics.success(Operation.JSON_TO_OBJECT, destinationClass, start, -1);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Unmarshalling json which may have been sent as a json string literal, e.g. <tt>"{\"id\":1}"</tt>.
+     * The outer string is decoded with regular json escaping rules and its content is bound to the provided
+     * type, input which is not a string literal is bound as it is.
+     *
+     * @param jsonAsString     plain or stringified json
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type unwrapJsonToObject(final String jsonAsString, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = unwrapJsonToObject(objectMapper.getFactory().createParser(jsonAsString), destinationClass);
+            JsonMetrics.success(Operation.UNWRAP_JSON_TO_OBJECT, destinationClass, start, jsonAsString.length());
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.UNWRAP_JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Byte variant of {@link #unwrapJsonToObject(String, Class)}
+     *
+     * @param content          plain or stringified json bytes
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type unwrapJsonToObject(final byte[] content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = unwrapJsonToObject(objectMapper.getFactory().createParser(content), destinationClass);
+            JsonMetrics.success(Operation.UNWRAP_JSON_TO_OBJECT, destinationClass, start, content.length);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.UNWRAP_JSON_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    private static <Type> Type unwrapJsonToObject(final JsonParser parser, final Class<Type> destinationClass) throws IOException {
+        try (JsonParser outer = parser) {
+            if (outer.nextToken() == JsonToken.VALUE_STRING) {
+                return mapperCache.reader(destinationClass).readValue(outer.getText());
+            }
+            return mapperCache.reader(destinationClass).readValue(outer);
+        }
+    }
+
+    /**
+     * Unmarshalling xml bytes to provided type, the character encoding is taken from the xml declaration
+     *
+     * @param content          xml bytes
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type xmlByteToObject(final byte[] content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = XML_MAPPER_CACHE.reader(destinationClass).readValue(content);
+            JsonMetrics.success(Operation.XML_TO_OBJECT, destinationClass, start, content.length);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.XML_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Unmarshalling xml read from the stream to provided type, the character encoding is taken from the xml
+     * declaration. Use {@link XmlStreams} to bind repeated elements of large documents one at a time.
+     *
+     * @param content          xml stream
+     * @param destinationClass type to bind to
+     * @return <tt>bound object</tt>
+     */
+    public static <Type> Type xmlToObject(final InputStream content, final Class<Type> destinationClass) throws IOException {
+        long start = JsonMetrics.start();
+        try {
+            Type value = XML_MAPPER_CACHE.reader(destinationClass).readValue(content);
+            JsonMetrics.success(Operation.XML_STREAM_TO_OBJECT, destinationClass, start, -1);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            JsonMetrics.failure(Operation.XML_STREAM_TO_OBJECT, destinationClass, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Validate the payload, successful validations are logged only when
+     * <tt>json.validation.successLogSampleRate</tt> is set
+     *
+     * @param object payload
+     * @return empty set of violations
+     * @throws IllegalArgumentException when the payload is null
+     * @see PayloadValidator
+     */
+    public static <T> Set<ConstraintViolation<T>> validateRequest(T object) {
+        long start = JsonMetrics.start();
+        Class<?> target = object == null ? null : object.getClass();
+        try {
+            Set<ConstraintViolation<T>> violations = PAYLOAD_VALIDATOR.validateOrThrow(object);
+            JsonMetrics.success(Operation.VALIDATE, target, start, -1);
+            return violations;
+        } catch (RuntimeException e) {
+            JsonMetrics.failure(Operation.VALIDATE, target, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Validate all payloads in parallel, collecting the violations of each one instead of throwing
+     *
+     * @param objects payloads
+     * @return one result per payload in input order
+     */
+    public static <T> List<PayloadValidator.Result<T>> validateRequests(Collection<T> objects) {
+        return PAYLOAD_VALIDATOR.validateAll(objects);
+    }
+
+    /**
+     * Convert all objects to json in parallel, collecting the error of each one instead of throwing
+     *
+     * @param objects objects to convert
+     * @return one result per object in input order
+     * @see JsonBatch
+     */
+    public static List<JsonBatch.Result<String>> toJsonBatch(Collection<?> objects) {
+        return JSON_BATCH.toJson(objects);
+    }
+
+    /**
+     * Bind all payloads in parallel, collecting the error of each one instead of throwing
+     *
+     * @param payloads json payloads
+     * @param type     type to bind to
+     * @return one result per payload in input order
+     * @see JsonBatch
+     */
+    public static <T> List<JsonBatch.Result<T>> fromJsonBatch(Collection<String> payloads, Class<T> type) {
+        return JSON_BATCH.fromJson(payloads, type);
+    }
+
+
+    private static <V> void add(JsonNode jsonNode, String key, V value) {
+        if (value instanceof String) {
+            ((ObjectNode) jsonNode).put(key, (String) value);
+        } else if (value instanceof Short) {
+            ((ObjectNode) jsonNode).put(key, (Short) value);
+        } else if (value instanceof Integer) {
+            ((ObjectNode) jsonNode).put(key, (Integer) value);
+        } else if (value instanceof Long) {
+            ((ObjectNode) jsonNode).put(key, (Long) value);
+        } else if (value instanceof Float) {
+            ((ObjectNode) jsonNode).put(key, (Float) value);
+        } else if (value instanceof Double) {
+            ((ObjectNode) jsonNode).put(key, (Double) value);
+        } else if (value instanceof BigDecimal) {
+            ((ObjectNode) jsonNode).put(key, (BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            ((ObjectNode) jsonNode).put(key, (BigInteger) value);
+        } else if (value instanceof Boolean) {
+            ((ObjectNode) jsonNode).put(key, (Boolean) value);
+        } else if (value instanceof byte[]) {
+            ((ObjectNode) jsonNode).put(key, (byte[]) value);
+        } else {
+            ((ObjectNode) jsonNode).set(key, objectMapper.valueToTree(value));
+        }
+    }
+
+    private static <V> void addAtPath(JsonNode jsonNode, String path, V value) {
+        final String[] keys = path.split("/");
+
+        if (!jsonNode.isObject()) {
+            throw new IllegalArgumentException("Cannot add " + path + ", the json is not an object");
+        }
+        ObjectNode parent = (ObjectNode) jsonNode;
+        for (int i = 0; i < keys.length - 1; i++) {
+            JsonNode child = parent.get(keys[i]);
+            if (child == null) {
+                parent = parent.putObject(keys[i]);
+            } else if (child.isObject()) {
+                parent = (ObjectNode) child;
+            } else {
+                throw new IllegalArgumentException("Cannot add " + path + ", "
+                        + String.join("/", Arrays.copyOf(keys, i + 1)) + " is not an object but " + child.getNodeType());
+            }
+        }
+        add(parent, keys[keys.length - 1], value);
+    }
+
+    /**
+     * Unmarshalling json to provided generic type
+     *
+     * @param json input json
+     * @param type generic Type
+     * @return <tt>generic object</tt>
+     */
+    public static <T> T fromJson(String json, Class<T> type) {
+        T resultObject;
+
+        long start = JsonMetrics.start();
+        try {
+            resultObject = mapperCache.reader(type).readValue(json);
+        } catch (Exception e) {
+            JsonMetrics.failure(Operation.FROM_JSON, type, start);
+            throw new JsonException("Error while converting json to object - " + e);
+        }
+        JsonMetrics.success(Operation.FROM_JSON, type, start, json.length());
+
+        return resultObject;
+    }
+
+    public static <T> List<T> readList(String str, Class<T> type) {
+        return readList(str, ArrayList.class, type);
+    }
+
+    public static <T> List<T> readList(String str, Class<? extends Collection> type, Class<T> elementType) {
+        try {
+            return mapperCache.reader(mapperCache.collectionType(type, elementType)).readValue(str);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Convert to Json from any object
+     *
+     * @param data Any object
+     * @return <tt>Json string</tt>
+     */
+    public static String toJson(Object data) {
+
+        Objects.requireNonNull(data);
+
+        long start = JsonMetrics.start();
+        try {
+            String outputJson = mapperCache.writer(data.getClass()).writeValueAsString(data);
+            JsonMetrics.success(Operation.TO_JSON, data.getClass(), start, outputJson.length());
+            return outputJson;
+        } catch (JsonProcessingException e) {
+            JsonMetrics.failure(Operation.TO_JSON, data.getClass(), start);
+            throw new JsonException("Error while unmarshalling json to object - " + e);
+        } catch (RuntimeException e) {
+            JsonMetrics.failure(Operation.TO_JSON, data.getClass(), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Filter the corresponding json key with provided key path
+     *
+     * @param jsonData input json
+     * @param keyPath  key to filter or find the corresponding node in input json
+     * @return JsonNode {@link JsonNode}
+     */
+    public static JsonNode filterJsonNodeByKeys(String jsonData, String... keyPath) {
+        return JsonDocument.of(fromJson(jsonData, JsonNode.class)).get(keyPath);
+    }
+
+    public static JsonNode getKeysInJsonNode(String jsonData, String... keyPath) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(jsonData);
+        } catch (IOException e) {
+            return null;
+        }
+        for (String key : keyPath) {
+            if (jsonNode.has(key)) {
+                jsonNode = jsonNode.path(key);
+            } else {
+                return null;
+            }
+        }
+        return jsonNode;
+    }
+
+    /**
+     * Filter the corresponding json node with provided path
+     *
+     * @param rootNode {@link JsonNode}
+     * @param path     filter key
+     * @return JsonNode {@link JsonNode}
+     */
+    public static JsonNode filterJsonNodeByPath(JsonNode rootNode, String path) {
+        final String[] keys = path.split("/");
+
+        for (String key : keys) {
+            if (rootNode.has(key)) {
+                rootNode = rootNode.get(key);
+            } else {
+                return null;
+            }
+        }
+
+        return rootNode;
+    }
+
+    /**
+     * Find the node at the provided key path by streaming over the input json, without building the whole tree
+     *
+     * @param jsonData input json
+     * @param keyPath  keys to follow from the root object
+     * @return JsonNode {@link JsonNode} or null if the path is not present
+     * @throws JsonException when the json is malformed or repeats a key
+     * @see JsonPathExtractor
+     */
+    public static JsonNode extractJsonNodeByKeys(String jsonData, String... keyPath) {
+        return JsonPathExtractor.extract(jsonData, keyPath);
+    }
+
+    /**
+     * Find all the provided slash separated paths in a single streaming pass over the input json
+     *
+     * @param jsonData input json
+     * @param paths    slash separated key paths
+     * @return path to node mapping in the requested order, paths not present are left out
+     * @see JsonPathExtractor
+     */
+    public static Map<String, JsonNode> extractJsonNodesByPaths(String jsonData, String... paths) {
+        return JsonPathExtractor.extractPaths(jsonData, paths);
+    }
+
+    /**
+     * Parse the input json once so that many values can be read from it
+     *
+     * @param json input json
+     * @return <tt>parsed json document</tt>, empty if the input is empty
+     */
+    public static JsonDocument parse(String json) {
+        if (StringUtils.isEmpty(json)) {
+            return JsonDocument.empty();
+        }
+        return JsonDocument.of(fromJson(json, JsonNode.class));
+    }
+
+    /**
+     * Find all the provided keys with a single parse of the input json
+     *
+     * @param json input json
+     * @param keys elements to find
+     * @return key to node mapping in the requested order, keys not present are left out
+     */
+    public static Map<String, JsonNode> getValues(String json, String... keys) {
+        return parse(json).getAll(keys);
+    }
+
+    /**
+     * Find the json key if exist and return the value as string
+     *
+     * @param json input json
+     * @param key  element to return as string
+     * @return element value at the specified key
+     */
+    public static String getAsString(String json, String key) {
+        return parse(json).getAsString(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as int
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static int getAsInt(String json, String key) {
+        return parse(json).getAsInt(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as int
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static long getAsLong(String json, String key) {
+        return parse(json).getAsLong(key);
+    }
+
+    /**
+     * Fetch the json element value as double
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static double getAsDouble(String json, String key) {
+        return parse(json).getAsDouble(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as {@link BigInteger}
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static BigInteger getAsBigInteger(String json, String key) {
+        return parse(json).getAsBigInteger(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as {@link BigDecimal}
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static BigDecimal getAsBigDecimal(String json, String key) {
+        return parse(json).getAsBigDecimal(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as boolean
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static boolean getAsBoolean(String json, String key) {
+        return parse(json).getAsBoolean(key);
+    }
+
+    /**
+     * Find the json key if exist and return the value as byte array
+     *
+     * @param json input json
+     * @param key  element to find
+     * @return element value at the specified key
+     */
+    public static byte[] getAsBytes(String json, String key) {
+        return parse(json).getAsBytes(key);
+    }
+
+    /**
+     * Append the given key and value in the input json
+     *
+     * @param json  input json string
+     * @param key   new key to add in the input json
+     * @param value value to be added for the json key
+     * @return modified json with added key and value
+     */
+    public static <V> String add(String json, String key, V value) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            add(node, key, value);
+            return node.toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while adding json key - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Set the given value at a slash separated key path in the input json, creating missing objects on the way
+     *
+     * @param json  input json string
+     * @param path  slash separated key path, e.g. <tt>customer/address/city</tt>
+     * @param value value to be set, objects are added as nested json
+     * @return modified json with added value
+     * @throws IllegalArgumentException when the json or a value on the path exists but is not an object
+     */
+    public static <V> String addAtPath(String json, String path, V value) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            addAtPath(node, path, value);
+            return node.toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while adding json path - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove the given key from the json input if exist
+     *
+     * @param json input json
+     * @param key  element to remove
+     * @return modified json with removed key
+     */
+    public static String remove(String json, String key) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            ((ObjectNode) node).remove(key);
+            return node.toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while removing json key - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Update the provided element value in the input json
+     *
+     * @param json  input json
+     * @param key   element to update
+     * @param value new value to be set in the element
+     * @return json with updated values
+     */
+    public static <V> String update(String json, String key, V value) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            ((ObjectNode) node).remove(key);
+            add(node, key, value);
+            return node.toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while updating json key - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply all the json patch operations with a single parse and serialization of the input json
+     *
+     * @param json  input json
+     * @param patch operations to apply in order
+     * @return patched json
+     */
+    public static String patch(String json, JsonPatch patch) {
+        try {
+            return patch.apply(objectMapper.readTree(json)).toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while applying json patch - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply an RFC 6902 json patch document to the input json
+     *
+     * @param json      input json
+     * @param patchJson json patch document
+     * @return patched json
+     */
+    public static String patch(String json, String patchJson) {
+        return patch(json, JsonPatch.fromJson(patchJson));
+    }
+
+    /**
+     * Apply an RFC 7386 merge patch to the input json
+     *
+     * @param json      input json
+     * @param mergeJson merge patch
+     * @return patched json
+     */
+    public static String mergePatch(String json, String mergeJson) {
+        try {
+            return JsonPatch.mergePatch(objectMapper.readTree(json), objectMapper.readTree(mergeJson)).toString();
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while applying json merge patch - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrite the top level keys of the input json by copying its tokens, without building a tree.
+     * Updated keys keep their position, new keys are appended at the end and removed keys are skipped.
+     *
+     * @param json    input json object
+     * @param updates keys to add or replace with their new values
+     * @param removes keys to remove
+     * @return rewritten json
+     */
+    public static String rewrite(String json, Map<String, ?> updates, Collection<String> removes) {
+        StringWriter writer = new StringWriter(json.length() + 64);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonException("Problem while rewriting json - input is not an object");
+            }
+
+            Set<String> written = new HashSet<>();
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                parser.nextToken();
+                if (removes.contains(key)) {
+                    parser.skipChildren();
+                } else if (updates.containsKey(key)) {
+                    parser.skipChildren();
+                    if (written.add(key)) {
+                        generator.writeFieldName(key);
+                        mapperCache.writerFor(updates.get(key)).writeValue(generator, updates.get(key));
+                    }
+                } else {
+                    generator.writeFieldName(key);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            for (Map.Entry<String, ?> update : updates.entrySet()) {
+                if (!written.contains(update.getKey()) && !removes.contains(update.getKey())) {
+                    generator.writeFieldName(update.getKey());
+                    mapperCache.writerFor(update.getValue()).writeValue(generator, update.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new JsonException("Problem while rewriting json - " + e.getMessage());
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * Format the input json with pretty print
+     *
+     * @param json input json
+     * @return formatted json
+     */
+    public static String format(String json) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new JsonException("Problem while formatting json - " + e);
+        }
+    }
+
+}
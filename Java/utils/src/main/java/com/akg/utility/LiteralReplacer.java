@@ -0,0 +1,251 @@
+package com.akg.utility;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces many literal strings in one pass, using an Aho-Corasick automaton over all of them.
+ * <p>
+ * The text is scanned left to right. Of all occurrences the one starting first is replaced, the longest one when
+ * several start at the same position, and scanning resumes right after it. When no two occurrences in the text
+ * overlap, and no replacement creates a new occurrence, the result is the same as replacing the literals one after
+ * the other. Replacements are taken literally, <tt>$</tt> and <tt>\</tt> have no special meaning.
+ * <p>
+ * Instances are immutable and safe to share; build one per set of literals and reuse it.
+ */
+public final class LiteralReplacer {
+
+    private static final int ROOT = 0;
+
+    /**
+     * Per state: sorted transition characters and their target states
+     */
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    /**
+     * Per state: the longest literal ending here, as an index into {@link #literals}, or <tt>-1</tt>
+     */
+    private final int[] output;
+    private final int[] depth;
+    /**
+     * Transitions out of the root for ASCII characters, where a scan spends most of its time
+     */
+    private final int[] rootAscii = new int[128];
+
+    private final String[] literals;
+    private final String[] replacements;
+
+    private LiteralReplacer(Map<String, String> pairs) {
+        literals = pairs.keySet().toArray(new String[0]);
+        replacements = pairs.values().toArray(new String[0]);
+
+        List<Map<Character, Integer>> gotos = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        gotos.add(new HashMap<>());
+        depths.add(0);
+        terminals.add(-1);
+        for (int index = 0; index < literals.length; index++) {
+            int state = ROOT;
+            for (char c : literals[index].toCharArray()) {
+                Integer next = gotos.get(state).get(c);
+                if (next == null) {
+                    next = gotos.size();
+                    gotos.add(new HashMap<>());
+                    depths.add(depths.get(state) + 1);
+                    terminals.add(-1);
+                    gotos.get(state).put(c, next);
+                }
+                state = next;
+            }
+            terminals.set(state, index);
+        }
+
+        int states = gotos.size();
+        transitionChars = new char[states][];
+        transitionTargets = new int[states][];
+        depth = new int[states];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> edges = gotos.get(state);
+            char[] chars = new char[edges.size()];
+            int i = 0;
+            for (char c : edges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] targets = new int[chars.length];
+            for (i = 0; i < chars.length; i++) {
+                targets[i] = edges.get(chars[i]);
+            }
+            transitionChars[state] = chars;
+            transitionTargets[state] = targets;
+            depth[state] = depths.get(state);
+        }
+
+        Arrays.fill(rootAscii, -1);
+        for (int i = 0; i < transitionChars[ROOT].length; i++) {
+            if (transitionChars[ROOT][i] < rootAscii.length) {
+                rootAscii[transitionChars[ROOT][i]] = transitionTargets[ROOT][i];
+            }
+        }
+
+        // breadth first, so the failure state of a parent is final before its children need it
+        failure = new int[states];
+        output = new int[states];
+        output[ROOT] = -1;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[ROOT]) {
+            failure[target] = ROOT;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] = terminals.get(state) >= 0 ? terminals.get(state) : output[failure[state]];
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int target = transitionTargets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && goTo(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int next = goTo(fallback, c);
+                failure[target] = next >= 0 ? next : ROOT;
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * @param replacements literal to replacement, in any order; literals must not be empty
+     */
+    public static LiteralReplacer of(Map<String, String> replacements) {
+        Builder builder = builder();
+        replacements.forEach(builder::replace);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return <tt>text</tt> with every literal replaced
+     */
+    public String replaceAll(CharSequence text) {
+        if (literals.length == 0) {
+            return text.toString();
+        }
+        return replaceAll(text, new StringBuilder(text.length() + 16)).toString();
+    }
+
+    /**
+     * Appends <tt>text</tt> with every literal replaced to <tt>target</tt>, which must not be <tt>text</tt> itself.
+     *
+     * @return <tt>target</tt>
+     */
+    public StringBuilder replaceAll(CharSequence text, StringBuilder target) {
+        int length = text.length();
+        int copied = 0;
+        int position = 0;
+        while (position < length) {
+            int state = ROOT;
+            int matchStart = -1;
+            int matchLiteral = -1;
+            int i = position;
+            for (; i < length; i++) {
+                state = next(state, text.charAt(i));
+                int literal = output[state];
+                if (literal >= 0) {
+                    int start = i + 1 - literals[literal].length();
+                    if (matchLiteral < 0 || start < matchStart) {
+                        matchStart = start;
+                        matchLiteral = literal;
+                    } else if (start == matchStart) {
+                        // same start, ends later, so longer
+                        matchLiteral = literal;
+                    }
+                }
+                // no literal still in progress can start at or before the match: it is final
+                if (matchLiteral >= 0 && depth[state] < i + 1 - matchStart) {
+                    break;
+                }
+            }
+            if (matchLiteral < 0) {
+                break;
+            }
+            target.append(text, copied, matchStart).append(replacements[matchLiteral]);
+            copied = matchStart + literals[matchLiteral].length();
+            // matches never overlap: scanning restarts after the match from the root state, so no literal is matched
+            // across characters that were already replaced
+            position = copied;
+        }
+        return target.append(text, copied, length);
+    }
+
+    public int size() {
+        return literals.length;
+    }
+
+    private int next(int state, char c) {
+        if (state == ROOT && c < rootAscii.length) {
+            int target = rootAscii[c];
+            return target >= 0 ? target : ROOT;
+        }
+        while (true) {
+            int target = goTo(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private int goTo(int state, char c) {
+        char[] chars = transitionChars[state];
+        if (chars.length < 8) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return transitionTargets[state][i];
+                }
+            }
+            return -1;
+        }
+        int index = Arrays.binarySearch(chars, c);
+        return index >= 0 ? transitionTargets[state][index] : -1;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, String> pairs = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder replace(String literal, String replacement) {
+            if (literal == null || literal.isEmpty()) {
+                throw new IllegalArgumentException("Literal must not be empty");
+            }
+            if (replacement == null) {
+                throw new IllegalArgumentException("Replacement for " + literal + " must not be null");
+            }
+            if (pairs.putIfAbsent(literal, replacement) != null) {
+                throw new IllegalArgumentException("Duplicate literal " + literal);
+            }
+            return this;
+        }
+
+        public LiteralReplacer build() {
+            return new LiteralReplacer(pairs);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.akg.utility;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of resolved {@link JavaType}s and {@link ObjectReader}/{@link ObjectWriter} instances for one mapper.
+ * <p>
+ * Readers and writers keep their root (de)serializer once resolved, so reusing them skips the type resolution and
+ * serializer lookup done by the {@link ObjectMapper} facade on every call. Each map holds at most
+ * <tt>maxEntries</tt> entries, types seen after that are resolved per call and not cached.
+ * The mapper must be fully configured before the first lookup.
+ */
+public final class MapperCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<Object, JavaType> types = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public MapperCache(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAX_ENTRIES);
+    }
+
+    public MapperCache(ObjectMapper objectMapper, int maxEntries) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.maxEntries = maxEntries;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public JavaType type(Type type) {
+        return cached(types, type, key -> objectMapper.getTypeFactory().constructType(type));
+    }
+
+    public JavaType type(TypeReference<?> typeReference) {
+        return type(typeReference.getType());
+    }
+
+    @SuppressWarnings("rawtypes")
+    public JavaType collectionType(Class<? extends Collection> collectionType, Class<?> elementType) {
+        return cached(types, new CollectionKey(collectionType, elementType),
+                key -> objectMapper.getTypeFactory().constructCollectionType(collectionType, elementType));
+    }
+
+    public ObjectReader reader(JavaType type) {
+        return cached(readers, type, objectMapper::readerFor);
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return reader(type((Type) type));
+    }
+
+    public ObjectReader reader(TypeReference<?> typeReference) {
+        return reader(type(typeReference));
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return cached(writers, type, objectMapper::writerFor);
+    }
+
+    /**
+     * Writer for the runtime type of the value
+     *
+     * @param value value to be written, may be null
+     * @return <tt>object writer</tt>
+     */
+    public ObjectWriter writerFor(Object value) {
+        return value == null ? objectMapper.writer() : writer(value.getClass());
+    }
+
+    public int size() {
+        return types.size() + readers.size() + writers.size();
+    }
+
+    public void clear() {
+        types.clear();
+        readers.clear();
+        writers.clear();
+    }
+
+    private <K, V> V cached(Map<K, V> cache, K key, Function<K, V> factory) {
+        V value = cache.get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            if (cache.size() < maxEntries) {
+                V existing = cache.putIfAbsent(key, value);
+                if (existing != null) {
+                    value = existing;
+                }
+            }
+        }
+        return value;
+    }
+
+    private static final class CollectionKey {
+
+        private final Class<?> collectionType;
+        private final Class<?> elementType;
+
+        private CollectionKey(Class<?> collectionType, Class<?> elementType) {
+            this.collectionType = collectionType;
+            this.elementType = elementType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CollectionKey)) {
+                return false;
+            }
+            CollectionKey that = (CollectionKey) o;
+            return collectionType == that.collectionType && elementType == that.elementType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * collectionType.hashCode() + elementType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.akg.utility;
+
+import com.fasterxml.jackson.databind.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mapper flavours supported by {@link JsonUtils}. The shared mapper uses the profile named by the
+ * <tt>json.mapper.profile</tt> system property, {@link #DEFAULT} when it is not set.
+ */
+public enum MapperProfile {
+
+    /**
+     * Plain reflection based bean access
+     */
+    DEFAULT(),
+
+    /**
+     * Bean access through generated accessors, Blackbird when it is on the classpath and Afterburner otherwise.
+     * Falls back to {@link #DEFAULT} when neither module can be loaded, and both modules fall back to reflection
+     * for members they cannot optimise, e.g. private classes.
+     */
+    HIGH_PERFORMANCE("com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+
+    public static final String PROFILE_PROPERTY = "json.mapper.profile";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MapperProfile.class);
+
+    private final String[] moduleClassNames;
+
+    MapperProfile(String... moduleClassNames) {
+        this.moduleClassNames = moduleClassNames;
+    }
+
+    public static MapperProfile fromSystemProperty() {
+        String profile = System.getProperty(PROFILE_PROPERTY);
+        if (profile == null || profile.trim().isEmpty()) {
+            return DEFAULT;
+        }
+
+        try {
+            return valueOf(profile.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown json mapper profile {}, using {}", profile, DEFAULT);
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Accessor module of this profile
+     *
+     * @return first module which could be loaded, null for the default profile or when none is available
+     */
+    Module accessorModule() {
+        for (String moduleClassName : moduleClassNames) {
+            try {
+                return (Module) Class.forName(moduleClassName).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LOGGER.debug("Json accessor module {} not available - {}", moduleClassName, e.toString());
+            }
+        }
+
+        if (moduleClassNames.length > 0) {
+            LOGGER.warn("No accessor module available for json mapper profile {}, using reflection", this);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,706 @@
+package com.akg.utility;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Batch deduplication of person names that do not fit in memory.
+ * <p>
+ * Every name is sanitised with {@link StringUtils#getTrimmedAndSanitisedString} and split with
+ * {@link StringUtils#getStringParts}, then given one or more blocking keys. Only names sharing a key are compared,
+ * with the bounded edit distance of {@link EditDistance}, and pairs within <tt>maxDistance</tt> are merged into
+ * clusters. The pipeline runs in four steps, all of them against temporary files:
+ * <ol>
+ * <li>names are read once and spilled to partition files by the hash of their blocking keys</li>
+ * <li>partitions are compared in parallel on a fork-join pool, one partition in memory per worker</li>
+ * <li>matches are merged with union-find over one <tt>int</tt> per name, the only structure that grows with the
+ * input</li>
+ * <li>members and matches are regrouped by cluster and written as newline delimited json</li>
+ * </ol>
+ * Within a block identical sanitised names are matched with distance 0 and compared only once. A
+ * {@link BlockingKey#SORTED_TOKENS} block holds names made of the same parts, which are compared in sorted part order
+ * and so all match with distance 0. Blocks with more than <tt>maxBlockSize</tt> distinct names are not compared pair
+ * by pair; each name is compared with the <tt>maxBlockSize</tt> names that follow it in sorted order instead.
+ * <p>
+ * A name is identified by its position in the input, starting at 0. A cluster is identified by its smallest member.
+ */
+public final class NameDeduplicator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NameDeduplicator.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SORTED_TOKENS_KEY = "S:";
+    private static final String TOKEN_PREFIXES_KEY = "P:";
+
+    private static final byte MEMBER = 0;
+    private static final byte MATCH = 1;
+
+    public enum BlockingKey {
+        /**
+         * All parts in sorted order, matches names made of the same parts in any order with distance 0
+         */
+        SORTED_TOKENS,
+        /**
+         * The leading characters of every part longer than an initial, in sorted order, catches typos past the prefix
+         * and dropped initials
+         */
+        TOKEN_PREFIXES
+    }
+
+    private final int maxDistance;
+    private final int partitions;
+    private final int parallelism;
+    private final int maxBlockSize;
+    private final int prefixLength;
+    private final Set<BlockingKey> blockingKeys;
+    private final Path tempDirectory;
+
+    private NameDeduplicator(Builder builder) {
+        this.maxDistance = builder.maxDistance;
+        this.partitions = builder.partitions;
+        this.parallelism = builder.parallelism;
+        this.maxBlockSize = builder.maxBlockSize;
+        this.prefixLength = builder.prefixLength;
+        this.blockingKeys = EnumSet.copyOf(builder.blockingKeys);
+        this.tempDirectory = builder.tempDirectory;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Deduplicates a UTF-8 file with one name per line.
+     *
+     * @param output newline delimited json, one {@link Cluster} per line
+     */
+    public Summary run(Path input, Path output) throws IOException {
+        try (Stream<String> names = Files.lines(input, StandardCharsets.UTF_8)) {
+            return run(names, output);
+        }
+    }
+
+    /**
+     * @param names  consumed once, in order
+     * @param output newline delimited json, one {@link Cluster} per line
+     */
+    public Summary run(Stream<String> names, Path output) throws IOException {
+        long started = System.nanoTime();
+        Path work = tempDirectory == null
+                ? Files.createTempDirectory("name-dedup")
+                : Files.createTempDirectory(tempDirectory, "name-dedup");
+        try {
+            long[] partitionSizes = new long[partitions];
+            int records = spill(names.iterator(), work, partitionSizes);
+
+            LongAdder comparisons = new LongAdder();
+            long[] matchCounts = compare(work, partitionSizes, comparisons);
+
+            int[] parents = new int[records];
+            int[] sizes = new int[records];
+            union(work, matchCounts, parents, sizes);
+
+            long[] clustered = new long[1];
+            long clusters = writeClusters(work, matchCounts, parents, sizes, output, clustered);
+
+            Summary summary = new Summary(records, comparisons.sum(), Arrays.stream(matchCounts).sum(), clusters,
+                    clustered[0], (System.nanoTime() - started) / 1_000_000);
+            LOGGER.info("Deduplicated names: {}", summary);
+            return summary;
+        } finally {
+            deleteWorkDirectory(work);
+        }
+    }
+
+    /**
+     * @return blocking keys of the sanitised name parts, without duplicates
+     */
+    private Set<String> keys(List<String> parts) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (parts.isEmpty()) {
+            return keys;
+        }
+        if (blockingKeys.contains(BlockingKey.SORTED_TOKENS)) {
+            List<String> sorted = new ArrayList<>(parts);
+            Collections.sort(sorted);
+            keys.add(SORTED_TOKENS_KEY + String.join(" ", sorted));
+        }
+        if (blockingKeys.contains(BlockingKey.TOKEN_PREFIXES)) {
+            TreeSet<String> prefixes = new TreeSet<>();
+            for (String part : parts) {
+                if (part.length() > 1) {
+                    prefixes.add(part.substring(0, Math.min(prefixLength, part.length())));
+                }
+            }
+            if (!prefixes.isEmpty()) {
+                keys.add(TOKEN_PREFIXES_KEY + String.join(" ", prefixes));
+            }
+        }
+        return keys;
+    }
+
+    private int spill(Iterator<String> names, Path work, long[] partitionSizes) throws IOException {
+        DataOutputStream[] blocks = new DataOutputStream[partitions];
+        try (DataOutputStream records = open(work.resolve("records"))) {
+            for (int p = 0; p < partitions; p++) {
+                blocks[p] = open(work.resolve("block-" + p));
+            }
+            int id = 0;
+            while (names.hasNext()) {
+                if (id == Integer.MAX_VALUE) {
+                    throw new IllegalStateException("More than " + Integer.MAX_VALUE + " names");
+                }
+                String name = names.next();
+                String value = name == null ? "" : name;
+                List<String> parts = StringUtils.getStringParts(StringUtils.getTrimmedAndSanitisedString(value));
+                String normalized = String.join(" ", parts);
+
+                writeText(records, value);
+                for (String key : keys(parts)) {
+                    int partition = partition(key.hashCode());
+                    writeText(blocks[partition], key);
+                    blocks[partition].writeInt(id);
+                    // the sorted parts are the key itself, reordered names compare equal
+                    writeText(blocks[partition], key.startsWith(SORTED_TOKENS_KEY)
+                            ? key.substring(SORTED_TOKENS_KEY.length())
+                            : normalized);
+                    partitionSizes[partition]++;
+                }
+                id++;
+            }
+            return id;
+        } finally {
+            closeAll(blocks);
+        }
+    }
+
+    /**
+     * @return number of matches per partition
+     */
+    private long[] compare(Path work, long[] partitionSizes, LongAdder comparisons) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<Long>> tasks = new ArrayList<>(partitions);
+            for (int p = 0; p < partitions; p++) {
+                int partition = p;
+                tasks.add(pool.submit(() -> comparePartition(work, partition, partitionSizes[partition], comparisons)));
+            }
+            long[] matches = new long[partitions];
+            for (int p = 0; p < partitions; p++) {
+                matches[p] = tasks.get(p).get();
+            }
+            return matches;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while comparing names", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException("Comparing names failed", cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long comparePartition(Path work, int partition, long size, LongAdder comparisons) {
+        Path blockFile = work.resolve("block-" + partition);
+        try {
+            int count = (int) size;
+            String[] keys = new String[count];
+            int[] ids = new int[count];
+            String[] names = new String[count];
+            try (DataInputStream in = openInput(blockFile)) {
+                for (int i = 0; i < count; i++) {
+                    keys[i] = readText(in);
+                    ids[i] = in.readInt();
+                    names[i] = readText(in);
+                }
+            }
+            Files.delete(blockFile);
+
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer, String>comparing(i -> keys[i])
+                    .thenComparing(i -> names[i])
+                    .thenComparingInt(i -> ids[i]));
+
+            long matches = 0;
+            long compared = 0;
+            int[] distinct = new int[count];
+            try (DataOutputStream out = open(work.resolve("matches-" + partition))) {
+                int start = 0;
+                while (start < count) {
+                    int end = start + 1;
+                    while (end < count && keys[order[end]].equals(keys[order[start]])) {
+                        end++;
+                    }
+                    // identical names sort next to each other, they join the first one and are not compared again
+                    int distinctCount = 0;
+                    for (int i = start; i < end; i++) {
+                        int index = order[i];
+                        if (distinctCount > 0 && names[distinct[distinctCount - 1]].equals(names[index])) {
+                            writeMatch(out, ids[distinct[distinctCount - 1]], ids[index], 0, 1f);
+                            matches++;
+                        } else {
+                            distinct[distinctCount++] = index;
+                        }
+                    }
+                    // small blocks all pairs, large blocks a sliding window over the sorted names
+                    int window = Math.min(distinctCount, maxBlockSize);
+                    for (int i = 0; i < distinctCount; i++) {
+                        String left = names[distinct[i]];
+                        for (int j = i + 1; j < distinctCount && j <= i + window; j++) {
+                            String right = names[distinct[j]];
+                            compared++;
+                            int distance = EditDistance.levenshtein(left, right, maxDistance);
+                            if (distance >= 0) {
+                                int length = Math.max(left.length(), right.length());
+                                writeMatch(out, ids[distinct[i]], ids[distinct[j]], distance,
+                                        1f - (float) distance / length);
+                                matches++;
+                            }
+                        }
+                    }
+                    start = end;
+                }
+            }
+            comparisons.add(compared);
+            return matches;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMatch(DataOutputStream out, int left, int right, int distance, float score)
+            throws IOException {
+        out.writeInt(Math.min(left, right));
+        out.writeInt(Math.max(left, right));
+        out.writeShort(distance);
+        out.writeFloat(score);
+    }
+
+    private void union(Path work, long[] matchCounts, int[] parents, int[] sizes) throws IOException {
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = i;
+        }
+        for (int p = 0; p < partitions; p++) {
+            try (DataInputStream in = openInput(work.resolve("matches-" + p))) {
+                for (long m = 0; m < matchCounts[p]; m++) {
+                    int left = find(parents, in.readInt());
+                    int right = find(parents, in.readInt());
+                    in.readShort();
+                    in.readFloat();
+                    // the smaller id becomes the root, so a cluster is named after its first member
+                    if (left < right) {
+                        parents[right] = left;
+                    } else if (right < left) {
+                        parents[left] = right;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < parents.length; i++) {
+            sizes[find(parents, i)]++;
+        }
+    }
+
+    private static int find(int[] parents, int id) {
+        while (parents[id] != id) {
+            parents[id] = parents[parents[id]];
+            id = parents[id];
+        }
+        return id;
+    }
+
+    private long writeClusters(Path work, long[] matchCounts, int[] parents, int[] sizes, Path output,
+                               long[] clustered) throws IOException {
+        DataOutputStream[] groups = new DataOutputStream[partitions];
+        long[] groupSizes = new long[partitions];
+        try {
+            for (int p = 0; p < partitions; p++) {
+                groups[p] = open(work.resolve("cluster-" + p));
+            }
+            try (DataInputStream records = openInput(work.resolve("records"))) {
+                for (int id = 0; id < parents.length; id++) {
+                    String name = readText(records);
+                    int root = find(parents, id);
+                    if (sizes[root] > 1) {
+                        groupSizes[partition(root)]++;
+                        DataOutputStream out = groups[partition(root)];
+                        out.writeByte(MEMBER);
+                        out.writeInt(root);
+                        out.writeInt(id);
+                        writeText(out, name);
+                        clustered[0]++;
+                    }
+                }
+            }
+            for (int p = 0; p < partitions; p++) {
+                try (DataInputStream in = openInput(work.resolve("matches-" + p))) {
+                    for (long m = 0; m < matchCounts[p]; m++) {
+                        int left = in.readInt();
+                        int right = in.readInt();
+                        int distance = in.readShort();
+                        float score = in.readFloat();
+                        int root = find(parents, left);
+                        groupSizes[partition(root)]++;
+                        DataOutputStream out = groups[partition(root)];
+                        out.writeByte(MATCH);
+                        out.writeInt(root);
+                        out.writeInt(left);
+                        out.writeInt(right);
+                        out.writeShort(distance);
+                        out.writeFloat(score);
+                    }
+                }
+            }
+        } finally {
+            closeAll(groups);
+        }
+
+        long clusters = 0;
+        try (JsonStreamWriter writer = JsonStreams.lineWriter(output)) {
+            for (int p = 0; p < partitions; p++) {
+                Map<Integer, Cluster> byRoot = new TreeMap<>();
+                try (DataInputStream in = openInput(work.resolve("cluster-" + p))) {
+                    for (long entry = 0; entry < groupSizes[p]; entry++) {
+                        byte type = in.readByte();
+                        Cluster cluster = byRoot.computeIfAbsent(in.readInt(), Cluster::new);
+                        if (type == MEMBER) {
+                            cluster.members.add(new Member(in.readInt(), readText(in)));
+                        } else {
+                            cluster.addMatch(in.readInt(), in.readInt(), in.readShort(), in.readFloat());
+                        }
+                    }
+                }
+                for (Cluster cluster : byRoot.values()) {
+                    writer.write(cluster);
+                    clusters++;
+                }
+            }
+        }
+        return clusters;
+    }
+
+    private int partition(int hash) {
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % partitions;
+    }
+
+    private static DataOutputStream open(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+
+    private static DataInputStream openInput(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+
+    /**
+     * Length prefixed UTF-8, unlike <tt>writeUTF</tt> not limited to 64K
+     */
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void closeAll(Closeable[] streams) throws IOException {
+        IOException failure = null;
+        for (Closeable stream : streams) {
+            if (stream == null) {
+                continue;
+            }
+            try {
+                stream.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void deleteWorkDirectory(Path work) {
+        try (Stream<Path> files = Files.list(work)) {
+            files.forEach(file -> file.toFile().delete());
+            Files.deleteIfExists(work);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete {}", work, e);
+        }
+    }
+
+    /**
+     * Names that matched, directly or through other members, and the matching pairs with their distance and score
+     * (<tt>1 - distance / length</tt> of the longer sanitised name).
+     */
+    public static final class Cluster {
+
+        private final int id;
+        private final List<Member> members = new ArrayList<>();
+        private final List<Match> matches = new ArrayList<>();
+        private final Set<Long> pairs = new LinkedHashSet<>();
+
+        private Cluster(int id) {
+            this.id = id;
+        }
+
+        private void addMatch(int left, int right, int distance, float score) {
+            // the same pair can meet in the blocks of more than one key
+            if (pairs.add(((long) left << 32) | right)) {
+                matches.add(new Match(left, right, distance, score));
+            }
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getSize() {
+            return members.size();
+        }
+
+        public List<Member> getMembers() {
+            return members;
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+    }
+
+    public static final class Member {
+
+        private final int id;
+        private final String name;
+
+        private Member(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static final class Match {
+
+        private final int left;
+        private final int right;
+        private final int distance;
+        private final float score;
+
+        private Match(int left, int right, int distance, float score) {
+            this.left = left;
+            this.right = right;
+            this.distance = distance;
+            this.score = score;
+        }
+
+        public int getLeft() {
+            return left;
+        }
+
+        public int getRight() {
+            return right;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    public static final class Summary {
+
+        private final int records;
+        private final long comparisons;
+        private final long matches;
+        private final long clusters;
+        private final long clusteredRecords;
+        private final long elapsedMillis;
+
+        private Summary(int records, long comparisons, long matches, long clusters, long clusteredRecords,
+                        long elapsedMillis) {
+            this.records = records;
+            this.comparisons = comparisons;
+            this.matches = matches;
+            this.clusters = clusters;
+            this.clusteredRecords = clusteredRecords;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getRecords() {
+            return records;
+        }
+
+        /**
+         * @return pairs whose edit distance was computed
+         */
+        public long getComparisons() {
+            return comparisons;
+        }
+
+        /**
+         * @return pairs within the distance, counted once per shared blocking key
+         */
+        public long getMatches() {
+            return matches;
+        }
+
+        public long getClusters() {
+            return clusters;
+        }
+
+        public long getClusteredRecords() {
+            return clusteredRecords;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return records + " names, " + comparisons + " comparisons, " + matches + " matches, " + clusters
+                    + " clusters covering " + clusteredRecords + " names in " + elapsedMillis + " ms";
+        }
+    }
+
+    public static final class Builder {
+
+        private int maxDistance = 2;
+        private int partitions = 64;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int maxBlockSize = 1000;
+        private int prefixLength = 3;
+        private Set<BlockingKey> blockingKeys = EnumSet.allOf(BlockingKey.class);
+        private Path tempDirectory;
+
+        private Builder() {
+        }
+
+        /**
+         * Largest Levenshtein distance between two sanitised names that still makes them duplicates, 2 by default
+         */
+        public Builder maxDistance(int maxDistance) {
+            if (maxDistance < 0) {
+                throw new IllegalArgumentException("Distance must not be negative");
+            }
+            this.maxDistance = maxDistance;
+            return this;
+        }
+
+        /**
+         * Number of spill files, 64 by default. One partition has to fit in memory while it is compared.
+         */
+        public Builder partitions(int partitions) {
+            if (partitions < 1) {
+                throw new IllegalArgumentException("Partitions must be positive");
+            }
+            this.partitions = partitions;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Blocks up to this size are compared pair by pair, larger ones through a window of this size
+         */
+        public Builder maxBlockSize(int maxBlockSize) {
+            if (maxBlockSize < 1) {
+                throw new IllegalArgumentException("Block size must be positive");
+            }
+            this.maxBlockSize = maxBlockSize;
+            return this;
+        }
+
+        /**
+         * Characters per part in {@link BlockingKey#TOKEN_PREFIXES}, 3 by default
+         */
+        public Builder prefixLength(int prefixLength) {
+            if (prefixLength < 1) {
+                throw new IllegalArgumentException("Prefix length must be positive");
+            }
+            this.prefixLength = prefixLength;
+            return this;
+        }
+
+        public Builder blockingKeys(Set<BlockingKey> blockingKeys) {
+            if (blockingKeys.isEmpty()) {
+                throw new IllegalArgumentException("At least one blocking key is needed");
+            }
+            this.blockingKeys = EnumSet.copyOf(blockingKeys);
+            return this;
+        }
+
+        /**
+         * Where spill files go, the system temporary directory by default
+         */
+        public Builder tempDirectory(Path tempDirectory) {
+            this.tempDirectory = tempDirectory;
+            return this;
+        }
+
+        public NameDeduplicator build() {
+            return new NameDeduplicator(this);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.akg.utility;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Single pass equivalent of the regex pipeline behind {@link StringUtils#getTrimmedAndSanitisedString(String)}:
+ * trim, upper case, drop a leading salutation (<tt>MRS|MR|MS|MISS|SHRI</tt>, an optional dot and at least one
+ * whitespace) and remove everything but ASCII letters, digits, dots and whitespace.
+ * <p>
+ * Salutations are matched with a prefix trie that keeps the precedence of the regex alternation, so <tt>MRS</tt> is
+ * preferred over <tt>MR</tt> whenever both could match. Results are identical to the regex version. Input with non
+ * ASCII characters, or a Turkish or Azeri default locale, goes through the regex version, because upper casing there
+ * can turn a character into ASCII letters (<tt>&szlig;</tt> to <tt>SS</tt>, dotless <tt>i</tt> to <tt>I</tt>) or
+ * ASCII letters into something else.
+ */
+public final class NameSanitizer {
+
+    private static final String[] SALUTATIONS = {"MRS", "MR", "MS", "MISS", "SHRI"};
+
+    private static final SalutationTrie TRIE = new SalutationTrie(SALUTATIONS);
+
+    private static final int MAX_CACHED_BUFFER = 1024;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[128]);
+
+    private NameSanitizer() {
+    }
+
+    /**
+     * @return the sanitised name; the input itself when it is a <tt>String</tt> that is already sanitised
+     */
+    public static String sanitize(CharSequence input) {
+        int length = input.length();
+        if (!isFastPath(input)) {
+            return StringUtils.sanitiseWithRegex(input.toString());
+        }
+
+        char[] buffer = length <= MAX_CACHED_BUFFER ? BUFFER.get() : new char[length];
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        int written = sanitizeAscii(input, buffer, 0);
+        if (input instanceof String && written == length && equals(input, buffer, written)) {
+            return (String) input;
+        }
+        return new String(buffer, 0, written);
+    }
+
+    /**
+     * Appends the sanitised name to <tt>sink</tt>, which can be reused across calls.
+     *
+     * @return <tt>sink</tt>
+     */
+    public static StringBuilder sanitize(CharSequence input, StringBuilder sink) {
+        if (!isFastPath(input)) {
+            return sink.append(StringUtils.sanitiseWithRegex(input.toString()));
+        }
+        int start = sink.length();
+        sink.setLength(start + input.length());
+        int written = 0;
+        int end = trimmedEnd(input);
+        int from = trimmedStart(input, end);
+        for (int i = skipSalutation(input, from, end); i < end; i++) {
+            char c = upper(input.charAt(i));
+            if (isKept(c)) {
+                sink.setCharAt(start + written++, c);
+            }
+        }
+        sink.setLength(start + written);
+        return sink;
+    }
+
+    /**
+     * Writes the sanitised name into <tt>target</tt> from <tt>offset</tt>. The sanitised name is never longer than
+     * the input, so <tt>input.length()</tt> free characters are always enough.
+     *
+     * @return number of characters written
+     */
+    public static int sanitize(CharSequence input, char[] target, int offset) {
+        if (!isFastPath(input)) {
+            String sanitised = StringUtils.sanitiseWithRegex(input.toString());
+            sanitised.getChars(0, sanitised.length(), target, offset);
+            return sanitised.length();
+        }
+        return sanitizeAscii(input, target, offset);
+    }
+
+    private static int sanitizeAscii(CharSequence input, char[] target, int offset) {
+        int written = offset;
+        int end = trimmedEnd(input);
+        int from = trimmedStart(input, end);
+        for (int i = skipSalutation(input, from, end); i < end; i++) {
+            char c = upper(input.charAt(i));
+            if (isKept(c)) {
+                target[written++] = c;
+            }
+        }
+        return written - offset;
+    }
+
+    private static boolean isFastPath(CharSequence input) {
+        String language = Locale.getDefault().getLanguage();
+        if ("tr".equals(language) || "az".equals(language)) {
+            return false;
+        }
+        for (int i = 0, length = input.length(); i < length; i++) {
+            if (input.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same bounds as {@link String#trim()}: everything up to and including the space character is trimmed.
+     */
+    private static int trimmedEnd(CharSequence input) {
+        int end = input.length();
+        while (end > 0 && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static int trimmedStart(CharSequence input, int end) {
+        int start = 0;
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return index of the first character after the salutation, <tt>start</tt> if there is none
+     */
+    private static int skipSalutation(CharSequence input, int start, int end) {
+        int bestRank = Integer.MAX_VALUE;
+        int bestEnd = start;
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = TRIE.next(node, upper(input.charAt(i)));
+            if (node < 0) {
+                break;
+            }
+            int rank = TRIE.rank(node);
+            if (rank >= 0 && rank < bestRank) {
+                int matchEnd = matchSeparator(input, i + 1, end);
+                if (matchEnd > 0) {
+                    bestRank = rank;
+                    bestEnd = matchEnd;
+                }
+            }
+        }
+        return bestEnd;
+    }
+
+    /**
+     * Matches <tt>\.?\s+</tt> at <tt>from</tt>.
+     *
+     * @return end of the match, or <tt>-1</tt>
+     */
+    private static int matchSeparator(CharSequence input, int from, int end) {
+        int i = from;
+        if (i < end && input.charAt(i) == '.') {
+            i++;
+        }
+        int whitespaceStart = i;
+        while (i < end && isRegexWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i > whitespaceStart ? i : -1;
+    }
+
+    private static char upper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    /**
+     * The complement of <tt>[^\dA-Za-z\.\s]</tt> for upper cased ASCII.
+     */
+    private static boolean isKept(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || isRegexWhitespace(c);
+    }
+
+    /**
+     * <tt>\s</tt> without <tt>UNICODE_CHARACTER_CLASS</tt>: <tt>[ \t\n\x0B\f\r]</tt>.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static boolean equals(CharSequence input, char[] buffer, int length) {
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(i) != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Trie over <tt>A-Z</tt>. Every word keeps its position in the alternation as its rank, lower wins.
+     */
+    private static final class SalutationTrie {
+
+        private static final int ALPHABET = 26;
+
+        private int[][] next = new int[8][];
+        private int[] ranks = new int[8];
+        private int nodes;
+
+        private SalutationTrie(String[] words) {
+            newNode();
+            for (int rank = 0; rank < words.length; rank++) {
+                int node = 0;
+                for (char c : words[rank].toCharArray()) {
+                    int child = next[node][c - 'A'];
+                    if (child < 0) {
+                        child = newNode();
+                        next[node][c - 'A'] = child;
+                    }
+                    node = child;
+                }
+                if (ranks[node] < 0) {
+                    ranks[node] = rank;
+                }
+            }
+        }
+
+        private int newNode() {
+            if (nodes == next.length) {
+                next = Arrays.copyOf(next, nodes * 2);
+                ranks = Arrays.copyOf(ranks, nodes * 2);
+            }
+            int[] children = new int[ALPHABET];
+            Arrays.fill(children, -1);
+            next[nodes] = children;
+            ranks[nodes] = -1;
+            return nodes++;
+        }
+
+        private int next(int node, char c) {
+            return c >= 'A' && c <= 'Z' ? next[node][c - 'A'] : -1;
+        }
+
+        private int rank(int node) {
+            return ranks[node];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.akg.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits a name into its parts in one scan, without regex, substrings or a filter pass.
+ * <p>
+ * Parts are separated by a dot or a regex whitespace character (<tt>[ \t\n\x0B\f\r]</tt>). Empty parts and parts
+ * made only of {@link Character#isWhitespace(char)} characters are skipped, which gives the same parts as the
+ * original <tt>split("\\s|\\.")</tt> followed by an <tt>isBlank</tt> filter.
+ * <p>
+ * A part is reported as a span, an offset and a length into the scanned text, so callers can compare or hash parts
+ * in place and only create the strings they keep.
+ */
+public final class NameTokenizer {
+
+    /**
+     * Receives the parts of a name, one span at a time.
+     */
+    @FunctionalInterface
+    public interface SpanConsumer {
+
+        void accept(CharSequence source, int offset, int length);
+    }
+
+    private NameTokenizer() {
+    }
+
+    /**
+     * Writes the parts of <tt>name</tt> into <tt>spans</tt> as <tt>offset, length</tt> pairs. Parts that do not fit
+     * are counted but not written, so a return value above <tt>spans.length / 2</tt> means the array was too small.
+     *
+     * @return number of parts in <tt>name</tt>
+     */
+    public static int tokenize(CharSequence name, int[] spans) {
+        int count = 0;
+        int length = name.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            boolean blank = true;
+            while (end < length && !isDelimiter(name.charAt(end))) {
+                blank &= Character.isWhitespace(name.charAt(end));
+                end++;
+            }
+            if (!blank) {
+                int slot = count * 2;
+                if (slot + 1 < spans.length) {
+                    spans[slot] = start;
+                    spans[slot + 1] = end - start;
+                }
+                count++;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    /**
+     * @return <tt>offset, length</tt> pairs of the parts of <tt>name</tt>, in a tightly sized array
+     */
+    public static int[] spans(CharSequence name) {
+        int[] spans = new int[16];
+        int count = tokenize(name, spans);
+        if (count * 2 > spans.length) {
+            spans = new int[count * 2];
+            tokenize(name, spans);
+        }
+        return count * 2 == spans.length ? spans : Arrays.copyOf(spans, count * 2);
+    }
+
+    /**
+     * Calls <tt>consumer</tt> for every part of <tt>name</tt>, in order.
+     *
+     * @return number of parts
+     */
+    public static int forEach(CharSequence name, SpanConsumer consumer) {
+        int count = 0;
+        int length = name.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            boolean blank = true;
+            while (end < length && !isDelimiter(name.charAt(end))) {
+                blank &= Character.isWhitespace(name.charAt(end));
+                end++;
+            }
+            if (!blank) {
+                consumer.accept(name, start, end - start);
+                count++;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    /**
+     * @return the parts of <tt>name</tt> as strings, the same list <tt>StringUtils.getStringParts</tt> has always
+     * returned
+     */
+    public static List<String> parts(CharSequence name) {
+        String value = name.toString();
+        List<String> parts = new ArrayList<>();
+        forEach(value, (source, offset, length) -> parts.add(value.substring(offset, offset + length)));
+        return parts;
+    }
+
+    /**
+     * @return the same value as <tt>source.subSequence(offset, offset + length).toString().hashCode()</tt>
+     */
+    public static int hashCode(CharSequence source, int offset, int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * @return whether the span holds exactly the characters of <tt>other</tt>
+     */
+    public static boolean regionEquals(CharSequence source, int offset, int length, CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(offset + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '.' || c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,138 @@
+package com.akg.utility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regular expressions.
+ * <p>
+ * The cache is split into segments by the hash of the expression, each an access ordered map that evicts its least
+ * recently used entry when full, so threads looking up different expressions rarely wait for each other. Compilation
+ * happens outside the segment lock; when two threads miss on the same expression both compile and the first one
+ * stored wins.
+ */
+public final class PatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final int SEGMENTS = 8;
+
+    private final Segment[] segments;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PatternCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize most patterns held at once, spread evenly over the segments
+     */
+    public PatternCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        int segmentCount = Math.min(SEGMENTS, maxSize);
+        int perSegment = (maxSize + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * @return the compiled form of <tt>regex</tt>, compiling it on first use
+     */
+    public Pattern get(String regex) {
+        Segment segment = segmentFor(regex);
+        Pattern pattern;
+        synchronized (segment) {
+            pattern = segment.get(regex);
+        }
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+
+        misses.increment();
+        Pattern compiled = Pattern.compile(regex);
+        synchronized (segment) {
+            pattern = segment.putIfAbsent(regex, compiled);
+        }
+        return pattern != null ? pattern : compiled;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return hits divided by lookups, <tt>0</tt> before the first lookup
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private Segment segmentFor(String regex) {
+        int hash = regex.hashCode();
+        hash ^= hash >>> 16;
+        return segments[(hash & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private final class Segment extends LinkedHashMap<String, Pattern> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.Configuration;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bean validation of request payloads for high volumes.
+ * <p>
+ * Whether a class declares any constraint is looked up once per class, payloads of classes without constraints are
+ * accepted without calling the validator. {@link Mode#FAIL_FAST} stops at the first violation (Hibernate Validator
+ * only, other providers collect all). Successful validations are not logged unless a sample rate is configured.
+ */
+public final class PayloadValidator {
+
+    public static final String SUCCESS_LOG_SAMPLE_RATE_PROPERTY = "json.validation.successLogSampleRate";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayloadValidator.class);
+
+    private static final String FAIL_FAST_PROPERTY = "hibernate.validator.fail_fast";
+
+    private static final String NULL_PAYLOAD = "The object to be validated must not be null";
+
+    public enum Mode {
+        FAIL_FAST,
+        COLLECT_ALL
+    }
+
+    private final Validator validator;
+    private final int successLogSampleRate;
+    private final AtomicLong successCount = new AtomicLong();
+    private final ClassValue<Boolean> constrained = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return validator.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
+
+    private PayloadValidator(Builder builder) {
+        Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        if (builder.mode == Mode.FAIL_FAST) {
+            configuration.addProperty(FAIL_FAST_PROPERTY, Boolean.TRUE.toString());
+        }
+        this.validator = configuration.buildValidatorFactory().getValidator();
+        this.successLogSampleRate = builder.successLogSampleRate;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether instances of the class need validation at all
+     *
+     * @param type payload class
+     * @return true if the class or any of its properties declares a constraint or cascades validation
+     */
+    public boolean isConstrained(Class<?> type) {
+        return constrained.get(type);
+    }
+
+    /**
+     * Validate the payload
+     *
+     * @param object payload
+     * @return violations, empty when the payload is valid
+     * @throws IllegalArgumentException when the payload is null, like {@link Validator#validate}
+     */
+    public <T> Set<ConstraintViolation<T>> validate(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException(NULL_PAYLOAD);
+        }
+        if (!isConstrained(object.getClass())) {
+            return Collections.emptySet();
+        }
+        return validator.validate(object);
+    }
+
+    /**
+     * Validate the payload and throw on the first invalid one
+     *
+     * @param object payload
+     * @return empty set of violations
+     * @throws BadRequestException with the violation messages when the payload is not valid
+     * @throws IllegalArgumentException when the payload is null
+     */
+    public <T> Set<ConstraintViolation<T>> validateOrThrow(T object) {
+        Set<ConstraintViolation<T>> violations = validate(object);
+        if (!violations.isEmpty()) {
+            List<String> errorMessage = messages(violations);
+            LOGGER.error(errorMessage.toString());
+            throw new BadRequestException(errorMessage.toString());
+        }
+        logSuccess();
+        return violations;
+    }
+
+    /**
+     * Validate all payloads in parallel without stopping at invalid ones
+     *
+     * @param objects payloads
+     * @return one result per payload, in the iteration order of the input; a null payload gets an invalid result
+     * with {@link Result#getError()} set
+     */
+    public <T> List<Result<T>> validateAll(Collection<T> objects) {
+        List<T> payloads = objects instanceof List && objects instanceof RandomAccess
+                ? (List<T>) objects : new ArrayList<>(objects);
+        return IntStream.range(0, payloads.size())
+                .parallel()
+                .mapToObj(index -> {
+                    T payload = payloads.get(index);
+                    if (payload == null) {
+                        return new Result<T>(index, null, Collections.emptySet(), NULL_PAYLOAD);
+                    }
+                    Set<ConstraintViolation<T>> violations = validate(payload);
+                    if (violations.isEmpty()) {
+                        logSuccess();
+                    }
+                    return new Result<>(index, payload, violations, null);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void logSuccess() {
+        if (successLogSampleRate > 0 && successCount.incrementAndGet() % successLogSampleRate == 0) {
+            LOGGER.info("Payload Request Validation Completed Successfully ({} so far)", successCount.get());
+        }
+    }
+
+    private static <T> List<String> messages(Set<ConstraintViolation<T>> violations) {
+        List<String> errorMessage = new ArrayList<>(violations.size());
+        violations.forEach(violation -> errorMessage.add(violation.getMessage()));
+        return errorMessage;
+    }
+
+    public static final class Result<T> {
+
+        private final int index;
+        private final T payload;
+        private final Set<ConstraintViolation<T>> violations;
+        private final String error;
+
+        private Result(int index, T payload, Set<ConstraintViolation<T>> violations, String error) {
+            this.index = index;
+            this.payload = payload;
+            this.violations = violations;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public Set<ConstraintViolation<T>> getViolations() {
+            return violations;
+        }
+
+        /**
+         * @return why the payload could not be validated at all, e.g. because it is null; null otherwise
+         */
+        public String getError() {
+            return error;
+        }
+
+        public boolean isValid() {
+            return error == null && violations.isEmpty();
+        }
+
+        /**
+         * @return the violation messages, or the error when the payload could not be validated
+         */
+        public List<String> getMessages() {
+            return error == null ? messages(violations) : Collections.singletonList(error);
+        }
+    }
+
+    public static final class Builder {
+
+        private Mode mode = Mode.COLLECT_ALL;
+        private int successLogSampleRate = Integer.getInteger(SUCCESS_LOG_SAMPLE_RATE_PROPERTY, 0);
+
+        private Builder() {
+        }
+
+        public Builder mode(Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Log every n-th successful validation at INFO, 0 disables success logging
+         *
+         * @param successLogSampleRate sample rate
+         * @return this builder
+         */
+        public Builder successLogSampleRate(int successLogSampleRate) {
+            this.successLogSampleRate = successLogSampleRate;
+            return this;
+        }
+
+        public PayloadValidator build() {
+            return new PayloadValidator(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.akg.utility;
+
+import java.util.List;
+import java.util.Map;
+
+public class StringUtils {
+
+    private static final String salutationRegex = "^(MRS|MR|MS|MISS|SHRI)\\.?\\s+";
+
+    private static final PatternCache patternCache = new PatternCache();
+
+    public static Integer getDistance(String left, String right) {
+        long start = JsonMetrics.start();
+        try {
+            int distance = EditDistance.levenshtein(left, right);
+            JsonMetrics.success(JsonMetrics.Operation.DISTANCE, null, start, left.length() + right.length());
+            return distance;
+        } catch (RuntimeException e) {
+            JsonMetrics.failure(JsonMetrics.Operation.DISTANCE, null, start);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the Levenshtein distance, or -1 once it is known to be greater than <tt>threshold</tt>
+     */
+    public static int getDistance(String left, String right, int threshold) {
+        long start = JsonMetrics.start();
+        try {
+            int distance = EditDistance.levenshtein(left, right, threshold);
+            JsonMetrics.success(JsonMetrics.Operation.DISTANCE, null, start, left.length() + right.length());
+            return distance;
+        } catch (RuntimeException e) {
+            JsonMetrics.failure(JsonMetrics.Operation.DISTANCE, null, start);
+            throw e;
+        }
+    }
+
+    /**
+     * Like {@link #getDistance(String, String)}, but a swap of two adjacent letters costs one edit instead of two.
+     */
+    public static int getDamerauDistance(String left, String right) {
+        return EditDistance.damerau(left, right);
+    }
+
+    public static int getDamerauDistance(String left, String right, int threshold) {
+        return EditDistance.damerau(left, right, threshold);
+    }
+
+    /**
+     * @return similarity between 0 (nothing in common) and 1 (equal), the distance relative to the longer string
+     */
+    public static double getSimilarity(String left, String right) {
+        return EditDistance.similarity(left, right);
+    }
+
+    public static double getDamerauSimilarity(String left, String right) {
+        return EditDistance.damerauSimilarity(left, right);
+    }
+
+    public static String getTrimmedAndSanitisedString(String receivedStr) {
+        return NameSanitizer.sanitize(receivedStr);
+    }
+
+    /**
+     * Reference implementation of {@link #getTrimmedAndSanitisedString(String)}, used by {@link NameSanitizer} for
+     * input its single pass scan does not cover.
+     */
+    static String sanitiseWithRegex(String receivedStr) {
+        String trimmedStr = receivedStr.trim().toUpperCase();
+        String sanitisedStr = removeSalutations(trimmedStr);
+        sanitisedStr = removeSpecialCharacters(sanitisedStr);
+        return sanitisedStr;
+    }
+
+    public static List<String> getStringParts(String sanitisedStr) {
+        return NameTokenizer.parts(sanitisedStr);
+    }
+
+    /**
+     * Zero allocation form of {@link #getStringParts(String)}, see {@link NameTokenizer#tokenize(CharSequence, int[])}
+     */
+    public static int getStringParts(String sanitisedStr, int[] spans) {
+        return NameTokenizer.tokenize(sanitisedStr, spans);
+    }
+
+    public static String removeSalutations(String str) {
+        return str.replaceFirst(salutationRegex, "");
+    }
+
+    private static String removeSpecialCharacters(String str) {
+        return str.replaceAll("[^\\dA-Za-z\\.\\s]", "");
+    }
+
+
+    public static String replaceAll(StringBuilder sb, String find, String replace) {
+        return patternCache.get(find).matcher(sb).replaceAll(replace);
+    }
+
+    /**
+     * Replaces every literal of <tt>replacer</tt> in one pass, see {@link LiteralReplacer}
+     */
+    public static String replaceAll(StringBuilder sb, LiteralReplacer replacer) {
+        return replacer.replaceAll(sb);
+    }
+
+    /**
+     * Convenience for a one off set of literal replacements. Build a {@link LiteralReplacer} once when the same
+     * literals are replaced repeatedly.
+     */
+    public static String replaceAll(StringBuilder sb, Map<String, String> replacements) {
+        return LiteralReplacer.of(replacements).replaceAll(sb);
+    }
+
+    /**
+     * @return the cache behind {@link #replaceAll(StringBuilder, String, String)}, for its hit and miss counters
+     */
+    public static PatternCache getPatternCache() {
+        return patternCache;
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy binding of a repeated element in large xml documents, e.g. every <tt>&lt;record&gt;</tt> of a feed.
+ * <p>
+ * The document is read with a StAX reader which honours the encoding of the xml declaration. Each matching element
+ * is bound when the returned {@link Stream} reaches it, so heap use depends on the size of one element and not of
+ * the document. Matching elements nested inside a matching element are bound as part of the outer one.
+ * Close the stream to release the input.
+ */
+public final class XmlStreams {
+
+    private XmlStreams() {
+    }
+
+    public static <T> Stream<T> readElements(Path file, String elementName, Class<T> type) throws IOException {
+        return readElements(Files.newInputStream(file), elementName, type);
+    }
+
+    /**
+     * Stream every element with the given local name, the input stream is closed with the returned stream
+     *
+     * @param in          xml input
+     * @param elementName local name of the repeated element
+     * @param type        type to bind each element to
+     * @return <tt>lazy stream of bound elements</tt>
+     */
+    public static <T> Stream<T> readElements(InputStream in, String elementName, Class<T> type) throws IOException {
+        XmlMapper xmlMapper = JsonUtils.getXmlMapper();
+        XMLStreamReader reader;
+        try {
+            reader = xmlMapper.getFactory().getXMLInputFactory().createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            in.close();
+            throw new IOException("Error while opening xml stream - " + e.getMessage(), e);
+        }
+
+        ElementIterator<T> iterator = new ElementIterator<>(xmlMapper, reader, in, elementName, type);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private static final class ElementIterator<T> implements Iterator<T> {
+
+        private final XmlMapper xmlMapper;
+        private final XMLStreamReader reader;
+        private final InputStream in;
+        private final String elementName;
+        private final Class<T> type;
+        private long index;
+        private T next;
+        private boolean ready;
+        private boolean done;
+
+        private ElementIterator(XmlMapper xmlMapper, XMLStreamReader reader, InputStream in, String elementName,
+                                Class<T> type) {
+            this.xmlMapper = xmlMapper;
+            this.reader = reader;
+            this.in = in;
+            this.elementName = elementName;
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready || done) {
+                return ready;
+            }
+
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && elementName.equals(reader.getLocalName())) {
+                        next = read();
+                        ready = true;
+                        return true;
+                    }
+                }
+            } catch (XMLStreamException e) {
+                done = true;
+                throw new JsonException("Error while reading xml element " + index + " - " + e.getMessage());
+            }
+
+            done = true;
+            return false;
+        }
+
+        private T read() {
+            try {
+                return xmlMapper.readValue(reader, type);
+            } catch (IOException e) {
+                done = true;
+                throw new JsonException("Error while binding xml element " + index + " - " + e.getMessage());
+            } finally {
+                index++;
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next;
+            next = null;
+            ready = false;
+            return value;
+        }
+
+        private void close() {
+            done = true;
+            try {
+                reader.close();
+                in.close();
+            } catch (XMLStreamException e) {
+                throw new JsonException("Error while closing xml stream - " + e.getMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.cs.greenchannel.exception;
+
+/**
+ * Raised when a request payload fails validation
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
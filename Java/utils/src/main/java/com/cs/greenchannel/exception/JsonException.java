@@ -0,0 +1,15 @@
+package com.cs.greenchannel.exception;
+
+/**
+ * Raised when json cannot be read, written or transformed
+ */
+public class JsonException extends RuntimeException {
+
+    public JsonException(String message) {
+        super(message);
+    }
+
+    public JsonException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
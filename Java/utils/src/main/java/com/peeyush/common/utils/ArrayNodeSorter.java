@@ -0,0 +1,375 @@
+package com.peeyush.common.utils;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts the elements of an {@link ArrayNode} without turning every element into a string first.
+ * <p>
+ * Numbers sort by value into <tt>long[]</tt> or <tt>double[]</tt>, objects sort by a nested field whose value is
+ * read once per element, and the top k elements are picked with a heap of k entries instead of a full sort. Inputs
+ * of {@link #PARALLEL_THRESHOLD} elements or more are sorted with <tt>Arrays.parallelSort</tt>.
+ */
+public final class ArrayNodeSorter {
+
+	public static final int	PARALLEL_THRESHOLD	= 1 << 13;
+
+	private ArrayNodeSorter() {
+	}
+
+	/**
+	 * @return the text of every element, sorted; the order <tt>JsonUtils.getSortedArrayNode</tt> has always used
+	 */
+	public static List<String> sortStrings(ArrayNode arrayNode) {
+		String[] values = new String[arrayNode.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = arrayNode.get(i).asText();
+		}
+		if (values.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSort(values);
+		} else {
+			Arrays.sort(values);
+		}
+		return new ArrayList<>(Arrays.asList(values));
+	}
+
+	/**
+	 * @throws IllegalArgumentException when an element is not a whole number within the <tt>long</tt> range;
+	 *             fractions are rejected rather than truncated
+	 */
+	public static long[] sortLongs(ArrayNode arrayNode) {
+		long[] values = longs(arrayNode);
+		if (values.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSort(values);
+		} else {
+			Arrays.sort(values);
+		}
+		return values;
+	}
+
+	/**
+	 * @throws IllegalArgumentException when an element is not a number
+	 */
+	public static double[] sortDoubles(ArrayNode arrayNode) {
+		double[] values = doubles(arrayNode);
+		if (values.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSort(values);
+		} else {
+			Arrays.sort(values);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the <tt>k</tt> smallest numbers ascending, or the <tt>k</tt> largest descending
+	 * @throws IllegalArgumentException when an element is not a whole number within the <tt>long</tt> range
+	 */
+	public static long[] topLongs(ArrayNode arrayNode, int k, boolean descending) {
+		int size = Math.min(checkK(k), arrayNode.size());
+		// the heap keeps the worst kept value at its root, so a better one replaces it
+		long[] heap = new long[size];
+		int count = 0;
+		for (int i = 0; i < arrayNode.size() && size > 0; i++) {
+			long value = longValue(arrayNode, i);
+			if (count < size) {
+				heap[count] = value;
+				siftUp(heap, count++, descending);
+			} else if (descending ? value > heap[0] : value < heap[0]) {
+				heap[0] = value;
+				siftDown(heap, size, descending);
+			}
+		}
+		Arrays.sort(heap);
+		if (descending) {
+			for (int i = 0, j = heap.length - 1; i < j; i++, j--) {
+				long swap = heap[i];
+				heap[i] = heap[j];
+				heap[j] = swap;
+			}
+		}
+		return heap;
+	}
+
+	/**
+	 * @return the <tt>k</tt> smallest numbers ascending, or the <tt>k</tt> largest descending
+	 */
+	public static double[] topDoubles(ArrayNode arrayNode, int k, boolean descending) {
+		int size = Math.min(checkK(k), arrayNode.size());
+		double[] heap = new double[size];
+		int count = 0;
+		for (int i = 0; i < arrayNode.size() && size > 0; i++) {
+			double value = doubleValue(arrayNode, i);
+			if (count < size) {
+				heap[count] = value;
+				siftUp(heap, count++, descending);
+			} else if (descending ? Double.compare(value, heap[0]) > 0 : Double.compare(value, heap[0]) < 0) {
+				heap[0] = value;
+				siftDown(heap, size, descending);
+			}
+		}
+		Arrays.sort(heap);
+		if (descending) {
+			for (int i = 0, j = heap.length - 1; i < j; i++, j--) {
+				double swap = heap[i];
+				heap[i] = heap[j];
+				heap[j] = swap;
+			}
+		}
+		return heap;
+	}
+
+	public static List<JsonNode> sortBy(ArrayNode arrayNode, String field) {
+		return sortBy(arrayNode, field, false);
+	}
+
+	/**
+	 * Sort the elements by the value of a field, e.g. <tt>amount</tt>, <tt>customer.address.city</tt> or the
+	 * pointer <tt>/customer/address/city</tt>. Numbers sort by value and before text; elements without the field,
+	 * or with a null or non scalar value, come last in either direction. Equal elements keep their order.
+	 */
+	public static List<JsonNode> sortBy(ArrayNode arrayNode, String field, boolean descending) {
+		JsonPointer pointer = pointer(field);
+		Keyed[] keyed = new Keyed[arrayNode.size()];
+		for (int i = 0; i < keyed.length; i++) {
+			keyed[i] = new Keyed(arrayNode.get(i), pointer, i);
+		}
+		Comparator<Keyed> order = comparator(descending);
+		if (keyed.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSort(keyed, order);
+		} else {
+			Arrays.sort(keyed, order);
+		}
+		List<JsonNode> sorted = new ArrayList<>(keyed.length);
+		for (Keyed element : keyed) {
+			sorted.add(element.node);
+		}
+		return sorted;
+	}
+
+	/**
+	 * The first <tt>k</tt> elements of {@link #sortBy(ArrayNode, String, boolean)}, found without sorting the rest.
+	 */
+	public static List<JsonNode> topBy(ArrayNode arrayNode, String field, int k, boolean descending) {
+		int size = Math.min(checkK(k), arrayNode.size());
+		List<JsonNode> top = new ArrayList<>(size);
+		if (size == 0) {
+			return top;
+		}
+		JsonPointer pointer = pointer(field);
+		Comparator<Keyed> order = comparator(descending);
+		PriorityQueue<Keyed> heap = new PriorityQueue<>(size, order.reversed());
+		for (int i = 0; i < arrayNode.size(); i++) {
+			Keyed element = new Keyed(arrayNode.get(i), pointer, i);
+			if (heap.size() < size) {
+				heap.add(element);
+			} else if (order.compare(element, heap.peek()) < 0) {
+				heap.poll();
+				heap.add(element);
+			}
+		}
+		Keyed[] kept = heap.toArray(new Keyed[0]);
+		Arrays.sort(kept, order);
+		for (Keyed element : kept) {
+			top.add(element.node);
+		}
+		return top;
+	}
+
+	private static long[] longs(ArrayNode arrayNode) {
+		long[] values = new long[arrayNode.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = longValue(arrayNode, i);
+		}
+		return values;
+	}
+
+	private static double[] doubles(ArrayNode arrayNode) {
+		double[] values = new double[arrayNode.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = doubleValue(arrayNode, i);
+		}
+		return values;
+	}
+
+	private static long longValue(ArrayNode arrayNode, int index) {
+		JsonNode node = arrayNode.get(index);
+		if (!node.isNumber() || !node.canConvertToExactIntegral() || !node.canConvertToLong()) {
+			throw new IllegalArgumentException("Element " + index + " is not a whole number within long range: "
+							+ node);
+		}
+		return node.longValue();
+	}
+
+	private static double doubleValue(ArrayNode arrayNode, int index) {
+		JsonNode node = arrayNode.get(index);
+		if (!node.isNumber()) {
+			throw new IllegalArgumentException("Element " + index + " is not a number: " + node);
+		}
+		return node.doubleValue();
+	}
+
+	private static int checkK(int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative");
+		}
+		return k;
+	}
+
+	private static JsonPointer pointer(String field) {
+		if (field == null || field.isEmpty()) {
+			throw new IllegalArgumentException("Field must not be empty");
+		}
+		if (field.charAt(0) == '/') {
+			return JsonPointer.compile(field);
+		}
+		StringBuilder path = new StringBuilder(field.length() + 8);
+		for (String part : field.split("\\.")) {
+			path.append('/').append(part.replace("~", "~0").replace("/", "~1"));
+		}
+		return JsonPointer.compile(path.toString());
+	}
+
+	private static Comparator<Keyed> comparator(boolean descending) {
+		return (left, right) -> {
+			if (left.rank != right.rank) {
+				// missing keys stay last, whatever the direction
+				return left.rank - right.rank;
+			}
+			int result = left.rank == Keyed.NUMBER ? compareNumbers(left, right)
+							: left.rank == Keyed.TEXT ? left.text.compareTo(right.text) : 0;
+			if (descending) {
+				result = -result;
+			}
+			return result != 0 ? result : Integer.compare(left.index, right.index);
+		};
+	}
+
+	private static int compareNumbers(Keyed left, Keyed right) {
+		if (left.integral && right.integral) {
+			return Long.compare(left.whole, right.whole);
+		}
+		if (left.big || right.big) {
+			return left.key.decimalValue().compareTo(right.key.decimalValue());
+		}
+		return Double.compare(left.real, right.real);
+	}
+
+	private static void siftUp(long[] heap, int index, boolean descending) {
+		long value = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (descending ? heap[parent] <= value : heap[parent] >= value) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = value;
+	}
+
+	private static void siftDown(long[] heap, int size, boolean descending) {
+		long value = heap[0];
+		int index = 0;
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < size && (descending ? heap[right] < heap[child] : heap[right] > heap[child])) {
+				child = right;
+			}
+			if (descending ? value <= heap[child] : value >= heap[child]) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = value;
+	}
+
+	private static void siftUp(double[] heap, int index, boolean descending) {
+		double value = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			int compared = Double.compare(heap[parent], value);
+			if (descending ? compared <= 0 : compared >= 0) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = value;
+	}
+
+	private static void siftDown(double[] heap, int size, boolean descending) {
+		double value = heap[0];
+		int index = 0;
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < size) {
+				int compared = Double.compare(heap[right], heap[child]);
+				if (descending ? compared < 0 : compared > 0) {
+					child = right;
+				}
+			}
+			int compared = Double.compare(value, heap[child]);
+			if (descending ? compared <= 0 : compared >= 0) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = value;
+	}
+
+	/**
+	 * An element with its sort key, read once
+	 */
+	private static final class Keyed {
+
+		private static final int	NUMBER	= 0;
+		private static final int	TEXT	= 1;
+		private static final int	MISSING	= 2;
+
+		private final JsonNode		node;
+		private final JsonNode		key;
+		private final String		text;
+		private final int			rank;
+		private final int			index;
+		/** numeric keys: integral ones that fit a long compare exactly, big ones as decimals, the rest as doubles */
+		private final boolean		integral;
+		private final boolean		big;
+		private final long			whole;
+		private final double		real;
+
+		private Keyed(JsonNode node, JsonPointer pointer, int index) {
+			this.node = node;
+			this.index = index;
+			JsonNode value = node.at(pointer);
+			this.key = value;
+			boolean number = value.isNumber();
+			integral = number && value.canConvertToExactIntegral() && value.canConvertToLong();
+			big = number && (value.isBigDecimal() || value.isBigInteger());
+			whole = integral ? value.longValue() : 0;
+			real = number ? value.doubleValue() : 0;
+			if (number) {
+				rank = NUMBER;
+				text = null;
+			} else if (value.isValueNode() && !value.isNull()) {
+				rank = TEXT;
+				text = value.asText();
+			} else {
+				rank = MISSING;
+				text = null;
+			}
+		}
+	}
+}
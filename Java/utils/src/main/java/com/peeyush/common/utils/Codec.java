@@ -0,0 +1,106 @@
+package com.peeyush.common.utils;
+
+import com.akg.utility.MapperCache;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Encoder and decoder for one {@link DataFormat}. All formats share the same mapper configuration and cache their
+ * readers and writers, pick the codec per call with {@link #of(DataFormat)} or keep one per channel.
+ */
+public final class Codec {
+
+	private static final Map<DataFormat, Codec>	CODECS	= new EnumMap<>(DataFormat.class);
+	static {
+		for (DataFormat format : DataFormat.values()) {
+			CODECS.put(format, new Codec(format));
+		}
+	}
+
+	private final DataFormat	format;
+	private final ObjectMapper	objectMapper;
+	private final MapperCache	mapperCache;
+
+	private Codec(DataFormat format) {
+		this.format = format;
+		this.objectMapper = configure(new ObjectMapper(format.createFactory()));
+		this.mapperCache = new MapperCache(objectMapper);
+	}
+
+	public static Codec of(DataFormat format) {
+		return CODECS.get(format);
+	}
+
+	static ObjectMapper configure(ObjectMapper mapper) {
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+		mapper.setSerializationInclusion(Include.NON_NULL);
+		return mapper;
+	}
+
+	public DataFormat getFormat() {
+		return format;
+	}
+
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	MapperCache getMapperCache() {
+		return mapperCache;
+	}
+
+	public byte[] encode(Object obj) throws JsonProcessingException {
+		return mapperCache.writerFor(obj).writeValueAsBytes(obj);
+	}
+
+	/**
+	 * Encode into the caller's stream, the stream is left open
+	 */
+	public void encode(Object obj, OutputStream out) throws IOException {
+		mapperCache.writerFor(obj).writeValue(out, obj);
+	}
+
+	public <T> T decode(byte[] content, Class<T> className) throws IOException {
+		return mapperCache.reader(className).readValue(content);
+	}
+
+	public <T> T decode(byte[] content, int offset, int length, Class<T> className) throws IOException {
+		return mapperCache.reader(className).readValue(content, offset, length);
+	}
+
+	public <T> T decode(byte[] content, TypeReference<T> typeRef) throws IOException {
+		return mapperCache.reader(typeRef).readValue(content);
+	}
+
+	/**
+	 * Decode the bytes between position and limit, heap buffers are read in place and the position is unchanged
+	 */
+	public <T> T decode(ByteBuffer content, Class<T> className) throws IOException {
+		if (content.hasArray()) {
+			return decode(content.array(), content.arrayOffset() + content.position(), content.remaining(), className);
+		}
+		return mapperCache.reader(className).readValue(new ByteBufferBackedInputStream(content.duplicate()));
+	}
+
+	public <T> T decode(InputStream in, Class<T> className) throws IOException {
+		return mapperCache.reader(className).readValue(in);
+	}
+
+	@Override
+	public String toString() {
+		return "Codec[" + format + "]";
+	}
+}
@@ -0,0 +1,118 @@
+package com.peeyush.common.utils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares encoded size and encode/decode throughput of every {@link DataFormat} on sample payloads, to choose the
+ * wire format of a topic from measured data.
+ * <p>
+ * Usage: <tt>java com.peeyush.common.utils.CodecReport [-n iterations] sample.json...</tt>
+ * Each sample file holds one json payload, it is bound to generic maps and lists and then measured per format.
+ */
+public final class CodecReport {
+
+	private static final int	DEFAULT_ITERATIONS	= 20000;
+
+	private CodecReport() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		int iterations = DEFAULT_ITERATIONS;
+		List<Path> samples = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			if ("-n".equals(args[i]) && i + 1 < args.length) {
+				iterations = Integer.parseInt(args[++i]);
+			} else {
+				samples.add(Paths.get(args[i]));
+			}
+		}
+		if (samples.isEmpty()) {
+			System.err.println("Usage: CodecReport [-n iterations] sample.json...");
+			System.exit(1);
+		}
+		report(samples, iterations, System.out);
+	}
+
+	public static void report(List<Path> samples, int iterations, PrintStream out) throws IOException {
+		out.printf("%-30s %-13s %10s %7s %14s %14s%n", "sample", "format", "bytes", "size%", "encode ops/s",
+						"decode ops/s");
+		for (Path sample : samples) {
+			Object payload = Codec.of(DataFormat.JSON).decode(Files.readAllBytes(sample), Object.class);
+			List<Measurement> measurements = measure(payload, iterations);
+			int jsonSize = measurements.get(0).getEncodedSize();
+			for (Measurement measurement : measurements) {
+				out.printf("%-30s %-13s %10d %6.1f%% %14.0f %14.0f%n", sample.getFileName(), measurement.getFormat(),
+								measurement.getEncodedSize(), 100.0 * measurement.getEncodedSize() / jsonSize,
+								measurement.getEncodeOpsPerSecond(), measurement.getDecodeOpsPerSecond());
+			}
+		}
+	}
+
+	/**
+	 * Measure all formats on one payload, the first result is always {@link DataFormat#JSON}
+	 */
+	public static List<Measurement> measure(Object payload, int iterations) throws IOException {
+		List<Measurement> measurements = new ArrayList<>();
+		for (DataFormat format : DataFormat.values()) {
+			Codec codec = Codec.of(format);
+			byte[] encoded = codec.encode(payload);
+
+			for (int i = 0; i < iterations / 4; i++) {
+				codec.decode(codec.encode(payload), Object.class);
+			}
+
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				encoded = codec.encode(payload);
+			}
+			long encodeNanos = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				codec.decode(encoded, Object.class);
+			}
+			long decodeNanos = System.nanoTime() - start;
+
+			measurements.add(new Measurement(format, encoded.length, iterations * 1e9 / encodeNanos,
+							iterations * 1e9 / decodeNanos));
+		}
+		return measurements;
+	}
+
+	public static final class Measurement {
+
+		private final DataFormat	format;
+		private final int			encodedSize;
+		private final double		encodeOpsPerSecond;
+		private final double		decodeOpsPerSecond;
+
+		private Measurement(DataFormat format, int encodedSize, double encodeOpsPerSecond, double decodeOpsPerSecond) {
+			this.format = format;
+			this.encodedSize = encodedSize;
+			this.encodeOpsPerSecond = encodeOpsPerSecond;
+			this.decodeOpsPerSecond = decodeOpsPerSecond;
+		}
+
+		public DataFormat getFormat() {
+			return format;
+		}
+
+		public int getEncodedSize() {
+			return encodedSize;
+		}
+
+		public double getEncodeOpsPerSecond() {
+			return encodeOpsPerSecond;
+		}
+
+		public double getDecodeOpsPerSecond() {
+			return decodeOpsPerSecond;
+		}
+	}
+}
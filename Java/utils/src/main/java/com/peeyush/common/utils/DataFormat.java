@@ -0,0 +1,34 @@
+package com.peeyush.common.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+/**
+ * Wire formats supported by {@link Codec}
+ */
+public enum DataFormat {
+
+	JSON,
+	MESSAGE_PACK,
+	SMILE,
+	CBOR;
+
+	JsonFactory createFactory() {
+		switch (this) {
+			case MESSAGE_PACK:
+				return new MessagePackFactory();
+			case SMILE:
+				return new SmileFactory();
+			case CBOR:
+				return new CBORFactory();
+			default:
+				return new JsonFactory();
+		}
+	}
+
+	public boolean isBinary() {
+		return this != JSON;
+	}
+}
@@ -0,0 +1,149 @@
+package com.peeyush.common.utils;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads many json files in parallel. Large files are parsed from memory mapped buffers, small ones are read
+ * into a buffer which each worker thread reuses.
+ */
+public final class JsonFileLoader {
+
+	public static final int	MAP_THRESHOLD	= 256 * 1024;
+
+	private JsonFileLoader() {
+	}
+
+	public static <T> Result<T> load(Path directory, String glob, Class<T> className) throws IOException {
+		return load(directory, glob, className, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Load all the files under the directory whose relative path matches the glob, e.g. <tt>*.json</tt> or
+	 * <tt>**&#47;*.json</tt> to include sub directories.
+	 */
+	public static <T> Result<T> load(Path directory, String glob, Class<T> className, int parallelism)
+					throws IOException {
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(directory)) {
+			files = paths.filter(Files::isRegularFile)
+							.filter(path -> matcher.matches(directory.relativize(path)))
+							.sorted()
+							.collect(Collectors.toList());
+		}
+		return load(files, className, parallelism);
+	}
+
+	public static <T> Result<T> load(Collection<Path> files, Class<T> className, int parallelism) {
+		ObjectReader reader = JsonUtils.getMapperCache().reader(className);
+		int threads = Math.max(1, Math.min(parallelism, files.size()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new LoaderThreadFactory());
+		ThreadLocal<byte[]> buffers = new ThreadLocal<>();
+
+		try {
+			Map<Path, Future<T>> futures = new LinkedHashMap<>();
+			for (Path file : files) {
+				futures.put(file, executor.submit(() -> read(file, reader, buffers)));
+			}
+
+			Map<Path, T> loaded = new LinkedHashMap<>();
+			Map<Path, Exception> failures = new LinkedHashMap<>();
+			for (Map.Entry<Path, Future<T>> entry : futures.entrySet()) {
+				try {
+					loaded.put(entry.getKey(), entry.getValue().get());
+				} catch (ExecutionException e) {
+					failures.put(entry.getKey(), e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					failures.put(entry.getKey(), e);
+				}
+			}
+			return new Result<>(loaded, failures);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static <T> T read(Path file, ObjectReader reader, ThreadLocal<byte[]> buffers) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size >= MAP_THRESHOLD) {
+				MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+				return reader.readValue(new ByteBufferBackedInputStream(mapped));
+			}
+
+			byte[] buffer = buffers.get();
+			if (buffer == null || buffer.length < size) {
+				buffer = new byte[Math.max((int) size, 8192)];
+				buffers.set(buffer);
+			}
+			ByteBuffer target = ByteBuffer.wrap(buffer, 0, (int) size);
+			while (target.hasRemaining() && channel.read(target) >= 0) {
+				// read until the buffer is full or the file ends
+			}
+			return reader.readValue(buffer, 0, target.position());
+		}
+	}
+
+	public static final class Result<T> {
+
+		private final Map<Path, T>			loaded;
+		private final Map<Path, Exception>	failures;
+
+		private Result(Map<Path, T> loaded, Map<Path, Exception> failures) {
+			this.loaded = Collections.unmodifiableMap(loaded);
+			this.failures = Collections.unmodifiableMap(failures);
+		}
+
+		public Map<Path, T> getLoaded() {
+			return loaded;
+		}
+
+		public Map<Path, Exception> getFailures() {
+			return failures;
+		}
+
+		public boolean isSuccessful() {
+			return failures.isEmpty();
+		}
+	}
+
+	private static final class LoaderThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger	POOL_NUMBER	= new AtomicInteger();
+
+		private final int					pool		= POOL_NUMBER.incrementAndGet();
+		private final AtomicInteger			thread		= new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread worker = new Thread(runnable, "json-file-loader-" + pool + "-" + thread.incrementAndGet());
+			worker.setDaemon(true);
+			return worker;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+package com.peeyush.common.utils;
+
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+
+import com.akg.utility.JsonMetrics;
+import com.akg.utility.JsonMetrics.Operation;
+import com.akg.utility.MapperCache;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by Atul Kumar Gupta.
+ */
+public class JsonUtils {
+
+	private static final Codec			jsonCodec			= Codec.of(DataFormat.JSON);
+	private static final Codec			messagePackCodec	= Codec.of(DataFormat.MESSAGE_PACK);
+	private static ObjectMapper			objectMapper		= jsonCodec.getObjectMapper();
+	private static final MapperCache	mapperCache			= jsonCodec.getMapperCache();
+
+	private JsonUtils() {
+	}
+
+	static MapperCache getMapperCache() {
+		return mapperCache;
+	}
+
+	static MapperCache getMessagePackCache() {
+		return messagePackCodec.getMapperCache();
+	}
+
+	static ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	public static String getJsonStringFromObject(Object obj) throws JsonGenerationException,
+					JsonMappingException, IOException {
+		return mapperCache.writerFor(obj).writeValueAsString(obj);
+	}
+
+	public static <T> T getObjectFromJsonString(Class<T> clazz, String requestJson,
+					String callingMethod) throws IOException {
+		return mapperCache.reader(clazz).readValue(requestJson);
+	}
+  
+// Passing Different Class as Common Parameter to a method in a different class
+
+	public static <T> T getObjectFromJsonString(String json, Class<T> className)
+					throws JsonParseException, JsonMappingException, IOException {
+		return getObjectFromJsonString(className, json, "null");
+	}
+
+	public static <T> Object getObjectFromJsonString(String json, TypeReference<T> typeRef)
+					throws IOException {
+		return mapperCache.reader(typeRef).readValue(json);
+	}
+
+	public static JsonNode convertObjectToJsonNode(Object object) {
+		JsonNode jsonAdObject = objectMapper.valueToTree(object);
+		return jsonAdObject;
+	}
+
+	public static <T> Object getObjectFromFile(String fileName, Class<T> className)
+					throws JsonParseException, JsonMappingException, IOException {
+		return mapperCache.reader(className).readValue(new File(fileName));
+	}
+
+	/**
+	 * Load every file under the directory matching the glob in parallel, see {@link JsonFileLoader}
+	 */
+	public static <T> JsonFileLoader.Result<T> getObjectsFromDirectory(String directory, String glob,
+					Class<T> className) throws IOException {
+		return JsonFileLoader.load(Paths.get(directory), glob, className);
+	}
+
+	public static JsonNode getJsonNodeFromQueryParamsMap(Map<String, String[]> queryParams) {
+		if (queryParams == null) {
+			return null;
+		}
+		return getFirstParamNodeFromQueryParams(queryParams);
+	}
+
+	public static JsonNode getFirstParamNodeFromQueryParams(Map<String, String[]> queryParams) {
+		if (queryParams == null) {
+			return null;
+		}
+		ObjectNode node = objectMapper.createObjectNode();
+		for (Map.Entry<String, String[]> entry : queryParams.entrySet()) {
+			node.put(entry.getKey(), entry.getValue()[0]);
+		}
+		return node;
+	}
+
+	/**
+	 * Bind the query params straight onto a new instance of the class, see {@link QueryParamBinder}
+	 */
+	public static <T> T getObjectFromQueryParams(Map<String, String[]> queryParams, Class<T> className) {
+		if (queryParams == null) {
+			return null;
+		}
+		return QueryParamBinder.bind(queryParams, className);
+	}
+
+	public static <T> T getObjectFromJsonNode(JsonNode node, Class<T> className)
+					throws JsonProcessingException {
+		return objectMapper.treeToValue(node, className);
+	}
+
+	public static JsonNode getJsonNodeFromObject(Object object) {
+		return objectMapper.valueToTree(object);
+	}
+
+	public static JsonNode getJsonNodeFromJsonString(String jsonString) throws JsonParseException,
+					JsonMappingException, IOException {
+		JsonNode retval = null;
+		if (StringUtils.isNotEmpty(jsonString)) {
+			retval = mapperCache.reader(JsonNode.class).readValue(jsonString);
+		}
+		return retval;
+	}
+
+	public static ArrayNode createArrayNode() {
+		return objectMapper.createArrayNode();
+	}
+
+	public static ObjectNode createObjectNode() {
+		return objectMapper.createObjectNode();
+	}
+
+	public static byte[] messagePackSerialize(Object obj) throws JsonProcessingException {
+		long start = JsonMetrics.start();
+		try {
+			byte[] bytes = messagePackCodec.encode(obj);
+			JsonMetrics.success(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start, bytes.length);
+			return bytes;
+		} catch (JsonProcessingException | RuntimeException e) {
+			JsonMetrics.failure(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start);
+			throw e;
+		}
+	}
+
+	/**
+	 * Serialize into the caller's stream, the stream is neither closed nor buffered again
+	 */
+	public static void messagePackSerialize(Object obj, OutputStream out) throws IOException {
+		long start = JsonMetrics.start();
+		try {
+			messagePackCodec.encode(obj, out);
+			JsonMetrics.success(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start, -1);
+		} catch (IOException | RuntimeException e) {
+			JsonMetrics.failure(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start);
+			throw e;
+		}
+	}
+
+	/**
+	 * Serialize into the buffer starting at its position, which is advanced past the written bytes
+	 *
+	 * @return number of bytes written
+	 * @throws java.nio.BufferOverflowException when the value does not fit in the remaining space, the position is
+	 *             then left unchanged
+	 */
+	public static int messagePackSerialize(Object obj, ByteBuffer target) throws IOException {
+		long start = JsonMetrics.start();
+		int position = target.position();
+		try {
+			messagePackCodec.encode(obj, new ByteBufferBackedOutputStream(target));
+			JsonMetrics.success(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start, target.position() - position);
+			return target.position() - position;
+		} catch (IOException | RuntimeException e) {
+			target.position(position);
+			JsonMetrics.failure(Operation.MESSAGE_PACK_SERIALIZE, targetOf(obj), start);
+			throw e;
+		}
+	}
+
+	public static <T> T messagePackDeserialize(byte[] b, Class<T> className)
+					throws JsonParseException, JsonMappingException, IOException {
+		return messagePackDeserialize(b, 0, b.length, className);
+	}
+
+	public static <T> T messagePackDeserialize(byte[] b, int offset, int length, Class<T> className)
+					throws IOException {
+		long start = JsonMetrics.start();
+		try {
+			T value = messagePackCodec.decode(b, offset, length, className);
+			JsonMetrics.success(Operation.MESSAGE_PACK_DESERIALIZE, className, start, length);
+			return value;
+		} catch (IOException | RuntimeException e) {
+			JsonMetrics.failure(Operation.MESSAGE_PACK_DESERIALIZE, className, start);
+			throw e;
+		}
+	}
+
+	/**
+	 * Deserialize the bytes between position and limit without copying heap buffers, the buffer position is
+	 * left unchanged
+	 */
+	public static <T> T messagePackDeserialize(ByteBuffer source, Class<T> className) throws IOException {
+		long start = JsonMetrics.start();
+		try {
+			T value = messagePackCodec.decode(source, className);
+			JsonMetrics.success(Operation.MESSAGE_PACK_DESERIALIZE, className, start, source.remaining());
+			return value;
+		} catch (IOException | RuntimeException e) {
+			JsonMetrics.failure(Operation.MESSAGE_PACK_DESERIALIZE, className, start);
+			throw e;
+		}
+	}
+
+	private static Class<?> targetOf(Object obj) {
+		return obj == null ? null : obj.getClass();
+	}
+
+	public static byte[] serialize(Object obj, DataFormat format) throws IOException {
+		return Codec.of(format).encode(obj);
+	}
+
+	public static <T> T deserialize(byte[] b, Class<T> className, DataFormat format) throws IOException {
+		return Codec.of(format).decode(b, className);
+	}
+
+	/**
+	 * The text of every element, sorted as strings; see {@link ArrayNodeSorter} to sort numbers by value, objects
+	 * by a field or to pick the top k
+	 */
+	public static List<String> getSortedArrayNode(ArrayNode arrayNode) throws IOException {
+		return ArrayNodeSorter.sortStrings(arrayNode);
+	}
+
+}
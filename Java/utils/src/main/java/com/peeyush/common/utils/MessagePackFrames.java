@@ -0,0 +1,262 @@
+package com.peeyush.common.utils;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Length prefixed MessagePack records, so that many records can be written to and read from one stream.
+ * Each frame is a 4 byte big endian payload length followed by the MessagePack payload.
+ * <p>
+ * Writing to a stream encodes into a buffer which is reused by the calling thread, writing to a
+ * {@link ByteBuffer} encodes in place. Reading from a heap {@link ByteBuffer} parses the frame without copying.
+ */
+public final class MessagePackFrames {
+
+	public static final int							HEADER_LENGTH		= 4;
+
+	/**
+	 * Largest payload accepted by the readers unless the caller passes its own limit
+	 */
+	public static final int							DEFAULT_MAX_LENGTH	= 64 << 20;
+
+	private static final int						MAX_RETAINED_BUFFER	= 1 << 20;
+
+	private static final byte[]						EMPTY_HEADER		= new byte[HEADER_LENGTH];
+
+	private static final ThreadLocal<FrameBuffer>	BUFFERS				= ThreadLocal.withInitial(FrameBuffer::new);
+
+	private MessagePackFrames() {
+	}
+
+	/**
+	 * @return number of bytes written, header included
+	 */
+	public static int writeFrame(OutputStream out, Object obj) throws IOException {
+		FrameBuffer buffer = BUFFERS.get();
+		try {
+			buffer.write(EMPTY_HEADER, 0, HEADER_LENGTH);
+			JsonUtils.messagePackSerialize(obj, buffer);
+			byte[] frame = buffer.array();
+			int length = buffer.size() - HEADER_LENGTH;
+			frame[0] = (byte) (length >>> 24);
+			frame[1] = (byte) (length >>> 16);
+			frame[2] = (byte) (length >>> 8);
+			frame[3] = (byte) length;
+			out.write(frame, 0, buffer.size());
+			return buffer.size();
+		} finally {
+			buffer.release();
+		}
+	}
+
+	/**
+	 * Write a frame at the buffer position, which is advanced past the frame
+	 *
+	 * @return number of bytes written, header included
+	 * @throws BufferOverflowException when the frame does not fit in the remaining space, the position is then left
+	 *             unchanged
+	 */
+	public static int writeFrame(ByteBuffer target, Object obj) throws IOException {
+		if (target.remaining() < HEADER_LENGTH) {
+			throw new BufferOverflowException();
+		}
+		int start = target.position();
+		target.position(start + HEADER_LENGTH);
+		try {
+			JsonUtils.messagePackSerialize(obj, new ByteBufferBackedOutputStream(target));
+		} catch (IOException | RuntimeException e) {
+			target.position(start);
+			throw e;
+		}
+		int length = target.position() - start - HEADER_LENGTH;
+		target.putInt(start, length);
+		return HEADER_LENGTH + length;
+	}
+
+	/**
+	 * Read the frame at the buffer position and advance past it. When the buffer does not hold a complete frame
+	 * yet, null is returned and the position is left unchanged so the read can be retried with more data.
+	 *
+	 * @throws IOException when the header announces a payload longer than {@link #DEFAULT_MAX_LENGTH}
+	 */
+	public static <T> T readFrame(ByteBuffer source, Class<T> className) throws IOException {
+		return readFrame(source, className, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * @param maxLength largest payload accepted, longer headers fail with an {@link IOException}
+	 * @see #readFrame(ByteBuffer, Class)
+	 */
+	public static <T> T readFrame(ByteBuffer source, Class<T> className, int maxLength) throws IOException {
+		checkMaxLength(maxLength);
+		if (source.remaining() < HEADER_LENGTH) {
+			return null;
+		}
+		int start = source.position();
+		int length = checkLength(source.getInt(start), maxLength);
+		if (source.remaining() - HEADER_LENGTH < length) {
+			return null;
+		}
+
+		ObjectReader reader = JsonUtils.getMessagePackCache().reader(className);
+		T value;
+		if (source.hasArray()) {
+			value = reader.readValue(source.array(), source.arrayOffset() + start + HEADER_LENGTH, length);
+		} else {
+			ByteBuffer frame = source.duplicate();
+			frame.position(start + HEADER_LENGTH).limit(start + HEADER_LENGTH + length);
+			value = reader.readValue(new ByteBufferBackedInputStream(frame));
+		}
+		source.position(start + HEADER_LENGTH + length);
+		return value;
+	}
+
+	/**
+	 * Lazily read all the frames of the stream, the stream is closed with the returned stream. A header announcing
+	 * a payload longer than {@link #DEFAULT_MAX_LENGTH} fails the read with an {@link UncheckedIOException}.
+	 */
+	public static <T> Stream<T> readFrames(InputStream in, Class<T> className) {
+		return readFrames(in, className, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * @param maxLength largest payload accepted, longer headers fail the read before the payload is allocated
+	 * @see #readFrames(InputStream, Class)
+	 */
+	public static <T> Stream<T> readFrames(InputStream in, Class<T> className, int maxLength) {
+		checkMaxLength(maxLength);
+		FrameIterator<T> iterator = new FrameIterator<>(in, JsonUtils.getMessagePackCache().reader(className),
+						maxLength);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+						.onClose(iterator::close);
+	}
+
+	private static void checkMaxLength(int maxLength) {
+		if (maxLength < 0) {
+			throw new IllegalArgumentException("Maximum frame length must not be negative");
+		}
+	}
+
+	private static int checkLength(int length, int maxLength) throws IOException {
+		if (length < 0) {
+			throw new IOException("Invalid MessagePack frame length " + length);
+		}
+		if (length > maxLength) {
+			throw new IOException("MessagePack frame length " + length + " exceeds the maximum of " + maxLength);
+		}
+		return length;
+	}
+
+	private static final class FrameBuffer extends ByteArrayOutputStream {
+
+		private FrameBuffer() {
+			super(8192);
+		}
+
+		private byte[] array() {
+			return buf;
+		}
+
+		private void release() {
+			if (buf.length > MAX_RETAINED_BUFFER) {
+				BUFFERS.remove();
+			} else {
+				reset();
+			}
+		}
+	}
+
+	private static final class FrameIterator<T> implements Iterator<T> {
+
+		private final InputStream	in;
+		private final ObjectReader	reader;
+		private final int			maxLength;
+		private final byte[]		header	= new byte[HEADER_LENGTH];
+		private byte[]				payload	= new byte[8192];
+		private T					next;
+		private boolean				ready;
+		private boolean				done;
+
+		private FrameIterator(InputStream in, ObjectReader reader, int maxLength) {
+			this.in = in;
+			this.reader = reader;
+			this.maxLength = maxLength;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (ready || done) {
+				return ready;
+			}
+			try {
+				if (readFully(header, HEADER_LENGTH, true) < HEADER_LENGTH) {
+					done = true;
+					return false;
+				}
+				int length = checkLength(((header[0] & 0xFF) << 24) | ((header[1] & 0xFF) << 16)
+								| ((header[2] & 0xFF) << 8) | (header[3] & 0xFF), maxLength);
+				if (payload.length < length) {
+					payload = new byte[length];
+				}
+				readFully(payload, length, false);
+				next = reader.readValue(payload, 0, length);
+				ready = true;
+				return true;
+			} catch (IOException e) {
+				done = true;
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			T value = next;
+			next = null;
+			ready = false;
+			return value;
+		}
+
+		private int readFully(byte[] target, int length, boolean allowEnd) throws IOException {
+			int read = 0;
+			while (read < length) {
+				int count = in.read(target, read, length - read);
+				if (count < 0) {
+					if (allowEnd && read == 0) {
+						return 0;
+					}
+					throw new EOFException("Truncated MessagePack frame");
+				}
+				read += count;
+			}
+			return read;
+		}
+
+		private void close() {
+			done = true;
+			try {
+				in.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,428 @@
+package com.peeyush.common.utils;
+
+import com.cs.greenchannel.exception.BadRequestException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Binds servlet query parameters straight onto a bean, without copying them into a map or a json tree first.
+ * <p>
+ * The properties of a class are looked up once, as the json mapper would find them: public single argument setters,
+ * then fields which are public, annotated with {@link JsonProperty} or exposed by a public getter. Properties are
+ * named by {@link JsonProperty} when present and skipped when marked {@link JsonIgnore}. Values are converted to
+ * numbers, booleans, enums (by name, ignoring case), <tt>java.time</tt> types in ISO format, <tt>Date</tt> (ISO
+ * instant or epoch millis) and <tt>UUID</tt>. A collection or array property receives every value of a repeated
+ * parameter, any other property the first one. Collections are created as the declared type when it is a concrete
+ * class, otherwise as an <tt>ArrayList</tt>, <tt>LinkedHashSet</tt>, <tt>TreeSet</tt> or <tt>ArrayDeque</tt>,
+ * whichever fits. Unknown parameters are ignored; other property types are converted by the json mapper.
+ */
+public final class QueryParamBinder {
+
+	private static final ClassValue<Binding<?>>	BINDINGS	= new ClassValue<Binding<?>>() {
+
+		@Override
+		protected Binding<?> computeValue(Class<?> type) {
+			return new Binding<>(type);
+		}
+	};
+
+	private QueryParamBinder() {
+	}
+
+	/**
+	 * @throws BadRequestException when a value cannot be converted to its property type
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T bind(Map<String, String[]> queryParams, Class<T> className) {
+		Binding<T> binding = (Binding<T>) BINDINGS.get(className);
+		T target = binding.newInstance();
+		for (Map.Entry<String, String[]> entry : queryParams.entrySet()) {
+			Property property = binding.properties.get(entry.getKey());
+			String[] values = entry.getValue();
+			if (property != null && values != null && values.length > 0) {
+				property.set(target, values);
+			}
+		}
+		return target;
+	}
+
+	private static final class Binding<T> {
+
+		private final MethodHandle			constructor;
+		private final Map<String, Property>	properties	= new HashMap<>();
+
+		private Binding(Class<T> type) {
+			try {
+				Constructor<T> noArgs = type.getDeclaredConstructor();
+				noArgs.setAccessible(true);
+				constructor = MethodHandles.lookup().unreflectConstructor(noArgs)
+								.asType(MethodType.methodType(Object.class));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException(type.getName() + " needs a no argument constructor", e);
+			}
+
+			// a field annotation names its setter too, as it does for jackson
+			Map<String, Field> fields = new HashMap<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current
+							.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !field.isSynthetic()) {
+						fields.putIfAbsent(field.getName(), field);
+					}
+				}
+			}
+
+			Set<String> bound = new HashSet<>();
+			Set<String> getters = new HashSet<>();
+			for (Method method : type.getMethods()) {
+				String getterName = getterName(method);
+				if (getterName != null && !method.isAnnotationPresent(JsonIgnore.class)) {
+					getters.add(getterName);
+				}
+			}
+			for (Method method : type.getMethods()) {
+				String beanName = isSetter(method) ? decapitalize(method.getName().substring(3)) : null;
+				Field field = beanName == null ? null : fields.get(beanName);
+				if (beanName == null || method.isAnnotationPresent(JsonIgnore.class)
+								|| (field != null && field.isAnnotationPresent(JsonIgnore.class))) {
+					continue;
+				}
+				String name = name(method, field != null ? name(field, beanName) : beanName);
+				properties.putIfAbsent(name, new Property(name, method, method.getGenericParameterTypes()[0]));
+				bound.add(beanName);
+			}
+			// like jackson, a non public field is only set when annotated or when a public getter exposes it
+			for (Field field : fields.values()) {
+				if (bound.contains(field.getName()) || Modifier.isFinal(field.getModifiers())
+								|| field.isAnnotationPresent(JsonIgnore.class)) {
+					continue;
+				}
+				if (!Modifier.isPublic(field.getModifiers()) && !field.isAnnotationPresent(JsonProperty.class)
+								&& !getters.contains(field.getName())) {
+					continue;
+				}
+				String name = name(field, field.getName());
+				properties.putIfAbsent(name, new Property(name, field, field.getGenericType()));
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private T newInstance() {
+			try {
+				return (T) (Object) constructor.invokeExact();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Could not create the query parameter bean", e);
+			}
+		}
+
+		private static boolean isSetter(Method method) {
+			return method.getName().startsWith("set") && method.getName().length() > 3
+							&& method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers());
+		}
+
+		private static String getterName(Method method) {
+			if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())
+							|| method.getDeclaringClass() == Object.class) {
+				return null;
+			}
+			String methodName = method.getName();
+			if (methodName.startsWith("get") && methodName.length() > 3 && method.getReturnType() != void.class) {
+				return decapitalize(methodName.substring(3));
+			}
+			if (methodName.startsWith("is") && methodName.length() > 2 && method.getReturnType() == boolean.class) {
+				return decapitalize(methodName.substring(2));
+			}
+			return null;
+		}
+
+		private static String name(AccessibleObject member, String defaultName) {
+			if (member == null) {
+				return defaultName;
+			}
+			JsonProperty property = member.getAnnotation(JsonProperty.class);
+			return property != null && !property.value().isEmpty() ? property.value() : defaultName;
+		}
+
+		private static String decapitalize(String name) {
+			if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+				return name;
+			}
+			return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+		}
+	}
+
+	private static final class Property {
+
+		private static final List<Class<?>>		STANDARD_COLLECTIONS	= Arrays.asList(ArrayList.class,
+						LinkedHashSet.class, TreeSet.class, ArrayDeque.class);
+
+		private final String					name;
+		private final MethodHandle				setter;
+		private final boolean					primitive;
+		private final Function<String, Object>	converter;
+		/** the array component type of array properties, otherwise null */
+		private final Class<?>					container;
+		/** creates the collection of collection properties, otherwise null */
+		private final MethodHandle				collection;
+
+		private Property(String name, AccessibleObject member, Type type) {
+			this.name = name;
+			try {
+				member.setAccessible(true);
+				MethodHandle handle = member instanceof Method
+								? MethodHandles.lookup().unreflect((Method) member)
+								: MethodHandles.lookup().unreflectSetter((Field) member);
+				this.primitive = handle.type().parameterType(1).isPrimitive();
+				this.setter = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException("Cannot bind query parameter " + name, e);
+			}
+
+			Class<?> raw = rawClass(type);
+			if (raw.isArray()) {
+				container = raw.getComponentType();
+				collection = null;
+				converter = converter(container);
+			} else if (Collection.class.isAssignableFrom(raw)) {
+				container = null;
+				collection = collectionConstructor(name, raw);
+				converter = converter(elementClass(type));
+			} else {
+				container = null;
+				collection = null;
+				converter = converter(raw);
+			}
+		}
+
+		private void set(Object target, String[] values) {
+			Object value;
+			if (collection != null) {
+				Collection<Object> items = newCollection();
+				for (String item : values) {
+					Object converted = convert(item);
+					try {
+						items.add(converted);
+					} catch (NullPointerException | ClassCastException e) {
+						throw new BadRequestException("Invalid value '" + item + "' for query parameter " + name, e);
+					}
+				}
+				value = items;
+			} else if (container == null) {
+				value = convert(values[0]);
+			} else {
+				value = Array.newInstance(container, values.length);
+				for (int i = 0; i < values.length; i++) {
+					Object item = convert(values[i]);
+					if (item == null && container.isPrimitive()) {
+						throw new BadRequestException("Blank value for query parameter " + name);
+					}
+					Array.set(value, i, item);
+				}
+			}
+			if (value == null && primitive) {
+				return;
+			}
+			try {
+				setter.invokeExact(target, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Could not set query parameter " + name, e);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Collection<Object> newCollection() {
+			try {
+				return (Collection<Object>) collection.invokeExact();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Could not create the collection of query parameter " + name, e);
+			}
+		}
+
+		/**
+		 * @throws IllegalArgumentException when neither the declared type nor a standard collection fits
+		 */
+		private static MethodHandle collectionConstructor(String name, Class<?> raw) {
+			Class<?> implementation = null;
+			if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+				implementation = raw;
+			} else {
+				for (Class<?> candidate : STANDARD_COLLECTIONS) {
+					if (raw.isAssignableFrom(candidate)) {
+						implementation = candidate;
+						break;
+					}
+				}
+			}
+			try {
+				if (implementation == null) {
+					throw new IllegalArgumentException("no standard collection implements " + raw.getName());
+				}
+				return MethodHandles.publicLookup()
+								.findConstructor(implementation, MethodType.methodType(void.class))
+								.asType(MethodType.methodType(Collection.class));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new IllegalArgumentException("Cannot bind query parameter " + name + " of type " + raw.getName(),
+								e);
+			}
+		}
+
+		private Object convert(String value) {
+			try {
+				return converter.apply(value);
+			} catch (RuntimeException e) {
+				throw new BadRequestException("Invalid value '" + value + "' for query parameter " + name, e);
+			}
+		}
+
+		private static Class<?> rawClass(Type type) {
+			if (type instanceof Class) {
+				return (Class<?>) type;
+			}
+			if (type instanceof ParameterizedType) {
+				return (Class<?>) ((ParameterizedType) type).getRawType();
+			}
+			return Object.class;
+		}
+
+		private static Class<?> elementClass(Type type) {
+			if (type instanceof ParameterizedType) {
+				return rawClass(((ParameterizedType) type).getActualTypeArguments()[0]);
+			}
+			return String.class;
+		}
+	}
+
+	/**
+	 * Blank values become null, so they leave primitives at their default and clear other properties
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Function<String, Object> converter(Class<?> type) {
+		if (type == String.class || type == Object.class || type == CharSequence.class) {
+			return value -> value;
+		}
+		Function<String, Object> parser;
+		if (type == int.class || type == Integer.class) {
+			parser = value -> Integer.valueOf(value.trim());
+		} else if (type == long.class || type == Long.class) {
+			parser = value -> Long.valueOf(value.trim());
+		} else if (type == double.class || type == Double.class) {
+			parser = value -> Double.valueOf(value.trim());
+		} else if (type == float.class || type == Float.class) {
+			parser = value -> Float.valueOf(value.trim());
+		} else if (type == short.class || type == Short.class) {
+			parser = value -> Short.valueOf(value.trim());
+		} else if (type == byte.class || type == Byte.class) {
+			parser = value -> Byte.valueOf(value.trim());
+		} else if (type == boolean.class || type == Boolean.class) {
+			parser = QueryParamBinder::parseBoolean;
+		} else if (type == char.class || type == Character.class) {
+			parser = value -> {
+				if (value.length() != 1) {
+					throw new IllegalArgumentException("Expected a single character");
+				}
+				return value.charAt(0);
+			};
+		} else if (type == BigDecimal.class) {
+			parser = value -> new BigDecimal(value.trim());
+		} else if (type == BigInteger.class) {
+			parser = value -> new BigInteger(value.trim());
+		} else if (type.isEnum()) {
+			parser = value -> parseEnum((Class<? extends Enum>) type, value.trim());
+		} else if (type == LocalDate.class) {
+			parser = value -> LocalDate.parse(value.trim());
+		} else if (type == LocalDateTime.class) {
+			parser = value -> LocalDateTime.parse(value.trim());
+		} else if (type == LocalTime.class) {
+			parser = value -> LocalTime.parse(value.trim());
+		} else if (type == OffsetDateTime.class) {
+			parser = value -> OffsetDateTime.parse(value.trim());
+		} else if (type == ZonedDateTime.class) {
+			parser = value -> ZonedDateTime.parse(value.trim());
+		} else if (type == Instant.class) {
+			parser = value -> Instant.parse(value.trim());
+		} else if (type == Date.class) {
+			parser = QueryParamBinder::parseDate;
+		} else if (type == UUID.class) {
+			parser = value -> UUID.fromString(value.trim());
+		} else {
+			parser = value -> JsonUtils.getObjectMapper().convertValue(value, type);
+		}
+		return value -> value.trim().isEmpty() ? null : parser.apply(value);
+	}
+
+	private static Boolean parseBoolean(String value) {
+		String trimmed = value.trim();
+		if ("true".equalsIgnoreCase(trimmed) || "1".equals(trimmed)) {
+			return Boolean.TRUE;
+		}
+		if ("false".equalsIgnoreCase(trimmed) || "0".equals(trimmed)) {
+			return Boolean.FALSE;
+		}
+		throw new IllegalArgumentException("Expected true or false");
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Enum<?> parseEnum(Class<? extends Enum> type, String value) {
+		for (Enum constant : type.getEnumConstants()) {
+			if (constant.name().equals(value)) {
+				return constant;
+			}
+		}
+		for (Enum constant : type.getEnumConstants()) {
+			if (constant.name().equalsIgnoreCase(value)) {
+				return constant;
+			}
+		}
+		throw new IllegalArgumentException("Unknown constant of " + type.getSimpleName());
+	}
+
+	private static Date parseDate(String value) {
+		String trimmed = value.trim();
+		boolean digits = !trimmed.isEmpty();
+		for (int i = trimmed.startsWith("-") ? 1 : 0; i < trimmed.length(); i++) {
+			digits &= Character.isDigit(trimmed.charAt(i));
+		}
+		return digits ? new Date(Long.parseLong(trimmed)) : Date.from(Instant.parse(trimmed));
+	}
+}
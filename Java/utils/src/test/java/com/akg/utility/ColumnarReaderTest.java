@@ -0,0 +1,134 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chunked parallel reads must give the columns, presence and string dictionaries of a sequential read.
+ */
+class ColumnarReaderTest {
+
+    private static final String[] TAGS = {"red", "green", "blue", "cyan", "magenta", "yellow", "black"};
+
+    @TempDir
+    Path directory;
+
+    private static ColumnarReader.Builder columns() {
+        return ColumnarReader.builder()
+                .longColumn("id")
+                .doubleColumn("score")
+                .intColumn("detail/count")
+                .stringColumn("tag");
+    }
+
+    @Test
+    void chunkedSameAsSequential() throws IOException {
+        String lines = records(400, 11L);
+        Path file = directory.resolve("records.ndjson");
+        Files.write(file, lines.getBytes(StandardCharsets.UTF_8));
+        ColumnarReader.Columns expected = columns().parallelism(1).build()
+                .readLines(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(400, expected.size());
+
+        for (long chunkSize : new long[]{1, 7, 64, 1000, ColumnarReader.DEFAULT_CHUNK_SIZE}) {
+            ColumnarReader.Columns actual = columns().parallelism(4).chunkSize(chunkSize).build().readLines(file);
+            String label = "chunk size " + chunkSize;
+            int rows = expected.size();
+            assertEquals(rows, actual.size(), label);
+            assertArrayEquals(expected.getLongs("id").toArray(rows), actual.getLongs("id").toArray(rows), label);
+            assertArrayEquals(expected.getDoubles("score").toArray(rows), actual.getDoubles("score").toArray(rows),
+                    label);
+            assertArrayEquals(expected.getInts("detail/count").toArray(rows),
+                    actual.getInts("detail/count").toArray(rows), label);
+            assertEquals(expected.getStrings("tag").getDictionary(), actual.getStrings("tag").getDictionary(), label);
+            assertArrayEquals(expected.getStrings("tag").toCodes(rows), actual.getStrings("tag").toCodes(rows), label);
+            for (String path : columns().build().getColumns().keySet()) {
+                for (int row = 0; row < rows; row++) {
+                    assertEquals(expected.getColumn(path).isPresent(row), actual.getColumn(path).isPresent(row),
+                            label + " " + path + " row " + row);
+                }
+            }
+        }
+    }
+
+    @Test
+    void wholeNumbersOnly() throws IOException {
+        ColumnarReader reader = columns().build();
+        ColumnarReader.Columns read = reader.readLines(input(
+                "{\"id\":2.0,\"detail\":{\"count\":\"7\"}}\n{\"id\":\"-3\",\"detail\":{\"count\":4e1}}\n"));
+        assertArrayEquals(new long[]{2, -3}, read.getLongs("id").toArray(2));
+        assertArrayEquals(new int[]{7, 40}, read.getInts("detail/count").toArray(2));
+
+        String[] invalid = {"{\"id\":1.5}", "{\"id\":\"2.5\"}", "{\"id\":1e19}", "{\"id\":18446744073709551616}",
+                "{\"detail\":{\"count\":3000000000}}", "{\"detail\":{\"count\":0.5}}", "{\"id\":true}"};
+        for (String record : invalid) {
+            JsonException e = assertThrows(JsonException.class,
+                    () -> reader.readLines(input("{\"id\":1}\n" + record + "\n")), record);
+            assertTrue(e.getMessage().contains("at byte 9 "), e.getMessage());
+        }
+    }
+
+    @Test
+    void chunkedErrorsNameTheRecordOffset() throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            lines.append("{\"id\":").append(i).append("}\n");
+        }
+        int offset = lines.length();
+        lines.append("{\"tag\":\"x\",\"id\":0.25}\n{\"id\":99}\n");
+        Path file = directory.resolve("invalid.ndjson");
+        Files.write(file, lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        JsonException e = assertThrows(JsonException.class,
+                () -> columns().parallelism(4).chunkSize(16).build().readLines(file));
+        assertTrue(e.getMessage().contains("at byte " + offset + " "), e.getMessage());
+    }
+
+    private static ByteArrayInputStream input(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Records with absent, null, repeated, nested and skipped fields, and tags first seen in varying order
+     */
+    private static String records(int count, long seed) {
+        Random random = new Random(seed);
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append('{');
+            if (random.nextInt(4) > 0) {
+                lines.append("\"id\":").append(random.nextBoolean() ? String.valueOf(random.nextLong())
+                        : "\"" + random.nextInt(1000) + "\"").append(',');
+            }
+            if (random.nextInt(5) == 0) {
+                lines.append("\"score\":null,");
+            }
+            if (random.nextInt(3) > 0) {
+                lines.append("\"score\":").append(random.nextDouble() * 100).append(',');
+            }
+            lines.append("\"skipped\":{\"tag\":\"no\",\"list\":[1,{\"id\":2}]},");
+            if (random.nextInt(4) > 0) {
+                lines.append("\"detail\":{\"count\":").append(random.nextInt()).append(",\"other\":1},");
+            }
+            if (random.nextInt(6) > 0) {
+                lines.append("\"tag\":\"").append(TAGS[random.nextInt(TAGS.length - i * TAGS.length / count / 2)])
+                        .append("\",");
+            }
+            lines.append("\"tag\":\"late\"}\n");
+        }
+        return lines.toString();
+    }
+}
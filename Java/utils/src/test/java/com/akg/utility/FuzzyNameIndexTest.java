@@ -0,0 +1,171 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Searches through the BK-tree must find what comparing the query with every indexed key finds.
+ */
+class FuzzyNameIndexTest {
+
+    private static final int[] DISTANCES = {0, 1, 2, 4, Integer.MAX_VALUE};
+
+    @Test
+    void sameAsScan() {
+        List<String> names = NameSamples.names(1500, 5L);
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.addAll(names);
+        Map<String, Integer> counts = counts(names);
+
+        assertEquals(counts.values().stream().mapToInt(Integer::intValue).sum(), index.size());
+        assertSameAsScan(index, counts, queries(names, 60, 17L));
+    }
+
+    @Test
+    void sameAsScanAfterRebuild() {
+        List<String> names = NameSamples.names(1200, 9L);
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.addAll(names);
+        Map<String, Integer> counts = counts(names);
+
+        // every occurrence of 70% of the keys: removed nodes outnumber live ones past half, which rebuilds the tree
+        List<String> present = new ArrayList<>(counts.keySet());
+        Collections.shuffle(present, new Random(29L));
+        for (String key : present.subList(0, present.size() * 7 / 10)) {
+            while (counts.containsKey(key)) {
+                assertTrue(index.remove(key), key);
+                counts.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+            }
+            assertFalse(index.contains(key), key);
+            assertFalse(index.remove(key), key);
+        }
+        assertFalse(index.remove("Nobody Indexed Here"));
+        assertSameAsScan(index, counts, queries(names, 60, 31L));
+
+        // re-adding a removed key revives its node
+        index.add(present.get(0));
+        counts.merge(present.get(0), 1, Integer::sum);
+        assertTrue(index.contains(present.get(0)));
+        assertSameAsScan(index, counts, queries(names, 20, 37L));
+    }
+
+    @Test
+    void snapshotRoundTrip() throws IOException {
+        List<String> names = NameSamples.names(800, 13L);
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.addAll(names);
+        Map<String, Integer> counts = counts(names);
+        String removed = counts.keySet().iterator().next();
+        while (index.remove(removed)) {
+            counts.computeIfPresent(removed, (k, count) -> count == 1 ? null : count - 1);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        FuzzyNameIndex loaded = FuzzyNameIndex.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(index.size(), loaded.size());
+        assertFalse(loaded.contains(removed));
+        assertSameAsScan(loaded, counts, queries(names, 40, 41L));
+
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        loaded.writeTo(again);
+        assertEquals(out.toString("ISO-8859-1"), again.toString("ISO-8859-1"));
+    }
+
+    @Test
+    void emptyIndex() throws IOException {
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        assertTrue(index.search("Rahul", Integer.MAX_VALUE).isEmpty());
+        assertTrue(index.nearest("Rahul", 3, Integer.MAX_VALUE).isEmpty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        assertEquals(0, FuzzyNameIndex.readFrom(new ByteArrayInputStream(out.toByteArray())).size());
+    }
+
+    private static void assertSameAsScan(FuzzyNameIndex index, Map<String, Integer> counts, List<String> queries) {
+        for (String query : queries) {
+            String key = FuzzyNameIndex.key(query);
+            Map<String, Integer> distances = new TreeMap<>();
+            counts.keySet().forEach(name -> distances.put(name, EditDistance.levenshtein(key, name)));
+            List<String> all = counts.keySet().stream()
+                    .sorted(Comparator.comparingInt(distances::get))
+                    .map(name -> describe(name, distances.get(name), counts.get(name)))
+                    .collect(Collectors.toList());
+            for (int maxDistance : DISTANCES) {
+                List<String> expected = all.stream().filter(match -> distanceOf(match) <= maxDistance)
+                        .collect(Collectors.toList());
+                String label = query + " within " + maxDistance;
+                assertEquals(expected, describe(index.search(query, maxDistance)), label);
+
+                for (int limit : new int[]{1, 5}) {
+                    List<String> nearest = describe(index.nearest(query, limit, maxDistance));
+                    assertEquals(Math.min(limit, expected.size()), nearest.size(), label);
+                    // ties at the last distance may be cut differently, the distances must agree
+                    for (int i = 0; i < nearest.size(); i++) {
+                        assertEquals(distanceOf(expected.get(i)), distanceOf(nearest.get(i)), label);
+                        assertTrue(expected.contains(nearest.get(i)), label);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, Integer> counts(List<String> names) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String name : names) {
+            String key = FuzzyNameIndex.key(name);
+            if (!key.isEmpty()) {
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Indexed names, names with a changed character and a few names which are not indexed
+     */
+    private static List<String> queries(List<String> names, int count, long seed) {
+        Random random = new Random(seed);
+        List<String> queries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder query = new StringBuilder(names.get(random.nextInt(names.size())));
+            if (i % 3 > 0 && query.length() > 0) {
+                query.setCharAt(random.nextInt(query.length()), (char) ('a' + random.nextInt(26)));
+            }
+            queries.add(query.toString());
+        }
+        queries.add("");
+        queries.add("Zzyzx Qwerty");
+        return queries;
+    }
+
+    private static List<String> describe(List<FuzzyNameIndex.Match> matches) {
+        return matches.stream().map(match -> describe(match.getName(), match.getDistance(), match.getOccurrences()))
+                .collect(Collectors.toList());
+    }
+
+    private static String describe(String name, int distance, int occurrences) {
+        return distance + " " + name + " x" + occurrences;
+    }
+
+    private static int distanceOf(String match) {
+        return Integer.parseInt(match.substring(0, match.indexOf(' ')));
+    }
+}
@@ -0,0 +1,151 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Results must come back in input order across windows, with failed items reported in place of their value.
+ */
+class JsonBatchTest {
+
+    public static class Item {
+
+        public int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+
+        public String getCheck() {
+            if (id < 0) {
+                throw new IllegalStateException("item " + id + " cannot be written");
+            }
+            return "ok";
+        }
+    }
+
+    private static JsonBatch batch() {
+        return JsonBatch.builder().parallelism(4).window(3).build();
+    }
+
+    /**
+     * Items 0 to count - 1, with those at the given positions replaced by items which fail to convert
+     */
+    private static List<Item> items(int count, Integer... failing) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(Arrays.asList(failing).contains(i) ? -i - 1 : i));
+        }
+        return items;
+    }
+
+    @Test
+    void toJsonInInputOrderAcrossWindows() {
+        List<Item> items = items(50, 4, 9, 10);
+        try (JsonBatch batch = batch()) {
+            List<JsonBatch.Result<String>> results = batch.toJson(items);
+
+            assertEquals(items.size(), results.size());
+            for (int i = 0; i < items.size(); i++) {
+                JsonBatch.Result<String> result = results.get(i);
+                assertEquals(i, result.getIndex());
+                if (items.get(i).id < 0) {
+                    assertFalse(result.isSuccess(), result::toString);
+                    assertNull(result.getValue());
+                    assertSame(items.get(i), result.getInput());
+                    assertThrows(RuntimeException.class, result::getOrThrow);
+                } else {
+                    assertTrue(result.isSuccess(), result::toString);
+                    assertEquals(JsonUtils.toJson(items.get(i)), result.getOrThrow());
+                    assertNull(result.getInput());
+                }
+            }
+        }
+    }
+
+    @Test
+    void fromJsonKeepsOnlyFailedInputs() {
+        List<String> payloads = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            payloads.add(i % 7 == 3 ? "{\"id\":" : "{\"id\":" + i + "}");
+        }
+        try (JsonBatch batch = batch()) {
+            List<JsonBatch.Result<Map>> results = batch.fromJson(payloads, Map.class);
+
+            assertEquals(payloads.size(), results.size());
+            for (int i = 0; i < payloads.size(); i++) {
+                JsonBatch.Result<Map> result = results.get(i);
+                assertEquals(i, result.getIndex());
+                if (i % 7 == 3) {
+                    assertFalse(result.isSuccess());
+                    assertEquals(payloads.get(i), result.getInput());
+                } else {
+                    assertEquals(Map.of("id", i), result.getValue());
+                    assertNull(result.getInput());
+                }
+            }
+        }
+    }
+
+    @Test
+    void writeArrayLeavesOutFailedItems() throws IOException {
+        // the first item of the second and the third window fails, as does the first item of all
+        List<Item> items = items(11, 0, 3, 6, 7);
+        try (JsonBatch batch = batch()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonBatch.Summary summary = batch.writeArray(items.stream(), out);
+
+            List<Item> written = items.stream().filter(item -> item.id >= 0).collect(Collectors.toList());
+            assertEquals("[" + written.stream().map(JsonUtils::toJson).collect(Collectors.joining(",")) + "]",
+                    out.toString(StandardCharsets.UTF_8.name()));
+            assertEquals(written.size(), summary.getWritten());
+            assertEquals(Arrays.asList(0L, 3L, 6L, 7L),
+                    summary.getFailures().stream().map(JsonBatch.Result::getIndex).collect(Collectors.toList()));
+            assertSame(items.get(3), summary.getFailures().get(1).getInput());
+
+            out.reset();
+            assertEquals(0, batch.writeArray(items(2, 0, 1).stream(), out).getWritten());
+            assertEquals("[]", out.toString(StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    @Test
+    void writeLinesOnePerItem() throws IOException {
+        List<Item> items = items(10, 2, 3);
+        try (JsonBatch batch = batch()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonBatch.Summary summary = batch.writeLines(items.stream(), out);
+
+            StringBuilder expected = new StringBuilder();
+            items.stream().filter(item -> item.id >= 0)
+                    .forEach(item -> expected.append(JsonUtils.toJson(item)).append('\n'));
+            assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8.name()));
+            assertEquals(8, summary.getWritten());
+            assertEquals(2, summary.getFailures().size());
+        }
+    }
+
+    @Test
+    void closedBatchRejectsWork() {
+        JsonBatch batch = batch();
+        batch.close();
+        assertThrows(IllegalStateException.class, () -> batch.toJson(items(1)));
+        assertThrows(IllegalStateException.class, () -> batch.writeLines(items(1).stream(),
+                new ByteArrayOutputStream()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Values fed in chunks must be read, and their failures reported at the offsets, as {@link JsonStreams} does.
+ */
+class JsonFeederTest {
+
+    private static final String LINES = "{\"a\":1}\n{\"a\":\"x\"}\n{\"a\":3}\n{\"a\":[]}\n{\"a\":5}\n";
+
+    private static final String ARRAY = "[{\"a\":1}, {\"a\":\"x\"},{\"a\":3},\n{\"a\":[]} ,{\"a\":5}]";
+
+    private static final int[] CHUNK_SIZES = {1, 3, 1000};
+
+    public static class Record {
+        public int a;
+    }
+
+    @Test
+    void linesLikeReadLines() {
+        List<String> expected = new ArrayList<>();
+        try (Stream<Record> records = JsonStreams.readLines(input(LINES), Record.class, errors(expected))) {
+            expected.addAll(values(records));
+        }
+        assertEquals(Arrays.asList("1", "1@8", "3", "3@26", "5"), sorted(expected));
+
+        for (int chunkSize : CHUNK_SIZES) {
+            List<String> actual = new ArrayList<>();
+            try (JsonFeeder<Record> feeder = JsonFeeder.values(Record.class, record -> actual.add(
+                    String.valueOf(record.a)), errors(actual))) {
+                feed(feeder, LINES, chunkSize);
+            }
+            assertEquals(sorted(expected), sorted(actual), () -> "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void arrayElementsLikeReadArray() throws IOException {
+        List<String> expected = new ArrayList<>();
+        try (Stream<Record> records = JsonStreams.readArray(input(ARRAY), Record.class, errors(expected))) {
+            expected.addAll(values(records));
+        }
+        assertEquals(Arrays.asList("1", "1@10", "3", "3@29", "5"), sorted(expected));
+
+        for (int chunkSize : CHUNK_SIZES) {
+            List<String> actual = new ArrayList<>();
+            try (JsonFeeder<Record> feeder = JsonFeeder.arrayElements(Record.class, record -> actual.add(
+                    String.valueOf(record.a)), errors(actual))) {
+                feed(feeder, ARRAY, chunkSize);
+            }
+            assertEquals(sorted(expected), sorted(actual), () -> "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void failuresEndTheInput() {
+        // a root number is only complete at the end of input, where it fails to bind
+        byte[] trailing = "{\"a\":1}\n7".getBytes(StandardCharsets.UTF_8);
+        JsonFeeder<Record> unbound = JsonFeeder.values(Record.class, record -> { });
+        unbound.feed(trailing);
+        assertThrows(JsonException.class, unbound::end);
+        assertThrows(IllegalStateException.class, () -> unbound.feed(trailing));
+        assertThrows(IllegalStateException.class, unbound::end);
+
+        byte[] truncated = "{\"a\":1}\n{\"a\":2".getBytes(StandardCharsets.UTF_8);
+        JsonFeeder<Record> cutOff = JsonFeeder.values(Record.class, record -> { });
+        cutOff.feed(truncated);
+        assertThrows(JsonException.class, cutOff::end);
+        assertThrows(IllegalStateException.class, () -> cutOff.feed(truncated));
+
+        JsonFeeder<Record> malformed = JsonFeeder.values(Record.class, record -> { });
+        assertThrows(JsonException.class, () -> malformed.feed("{\"a\":1}}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalStateException.class, () -> malformed.feed(truncated));
+    }
+
+    private static ByteArrayInputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonStreams.ErrorHandler errors(List<String> reported) {
+        return (index, byteOffset, cause) -> reported.add(index + "@" + byteOffset);
+    }
+
+    private static List<String> values(Stream<Record> records) {
+        return records.map(record -> String.valueOf(record.a)).collect(Collectors.toList());
+    }
+
+    private static List<String> sorted(List<String> entries) {
+        List<String> sorted = new ArrayList<>(entries);
+        sorted.sort(null);
+        return sorted;
+    }
+
+    private static void feed(JsonFeeder<Record> feeder, String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            feeder.feed(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+        }
+        feeder.end();
+    }
+}
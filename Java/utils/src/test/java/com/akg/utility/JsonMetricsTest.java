@@ -0,0 +1,124 @@
+package com.akg.utility;
+
+import com.akg.utility.JsonMetrics.Operation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonMetricsTest {
+
+    /**
+     * Half way into the bucket of <tt>2<sup>30</sup></tt> to <tt>2<sup>31</sup> - 1</tt> nanoseconds, far enough from
+     * its bounds that the time taken by the test itself cannot move a latency to the next bucket
+     */
+    private static final long SLOW = 3L << 29;
+
+    private static final long FAST = 3L << 19;
+
+    @BeforeEach
+    void enable() {
+        JsonMetrics.reset();
+        JsonMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void disable() {
+        JsonMetrics.setEnabled(false);
+        JsonMetrics.reset();
+    }
+
+    private static void record(Operation operation, Class<?> target, long nanos, long size) {
+        JsonMetrics.success(operation, target, System.nanoTime() - nanos, size);
+    }
+
+    @Test
+    void bucketBounds() {
+        record(Operation.TO_JSON, null, FAST, -1);
+        record(Operation.TO_JSON, null, SLOW, -1);
+
+        long[] histogram = JsonMetrics.snapshot(Operation.TO_JSON).getHistogram();
+        assertEquals(64, histogram.length);
+        assertEquals(1, histogram[21]);
+        assertEquals(1, histogram[31]);
+    }
+
+    @Test
+    void percentileNanos() {
+        assertEquals(0, JsonMetrics.snapshot(Operation.TO_JSON).percentileNanos(0.5));
+
+        for (int i = 0; i < 90; i++) {
+            record(Operation.TO_JSON, null, FAST, -1);
+        }
+        for (int i = 0; i < 10; i++) {
+            record(Operation.TO_JSON, null, SLOW, -1);
+        }
+        JsonMetrics.Snapshot snapshot = JsonMetrics.snapshot(Operation.TO_JSON);
+
+        assertEquals((1L << 21) - 1, snapshot.getP50Nanos());
+        assertEquals((1L << 21) - 1, snapshot.percentileNanos(0.90));
+        assertEquals((1L << 21) - 1, snapshot.percentileNanos(0));
+        // the upper bound of the slow bucket is above every latency seen, so the largest one is returned
+        assertTrue(snapshot.getMaxNanos() >= SLOW && snapshot.getMaxNanos() < 1L << 31);
+        assertEquals(snapshot.getMaxNanos(), snapshot.percentileNanos(0.91));
+        assertEquals(snapshot.getMaxNanos(), snapshot.getP99Nanos());
+        assertEquals(snapshot.getMaxNanos(), snapshot.percentileNanos(1));
+    }
+
+    @Test
+    void snapshotAndReset() {
+        record(Operation.FROM_JSON, String.class, FAST, 10);
+        record(Operation.FROM_JSON, Integer.class, FAST, 30);
+        record(Operation.FROM_JSON, Integer.class, FAST, -1);
+        JsonMetrics.failure(Operation.FROM_JSON, Integer.class, System.nanoTime());
+
+        JsonMetrics.Snapshot total = JsonMetrics.snapshot(Operation.FROM_JSON);
+        assertEquals(4, total.getCalls());
+        assertEquals(1, total.getErrors());
+        assertEquals(40, total.getBytes());
+        assertEquals(20, total.getMeanBytes());
+        assertEquals(3, JsonMetrics.snapshot(Operation.FROM_JSON, Integer.class).getCalls());
+        assertEquals(Integer.class.getName(), JsonMetrics.snapshot(Operation.FROM_JSON, Integer.class).getTargetClass());
+        assertTrue(JsonMetrics.snapshot().stream().anyMatch(snapshot -> snapshot.getOperation().equals("fromJson")
+                && String.class.getName().equals(snapshot.getTargetClass()) && snapshot.getCalls() == 1));
+
+        JsonMetrics.reset();
+        assertEquals(0, JsonMetrics.snapshot(Operation.FROM_JSON).getCalls());
+        assertEquals(0, JsonMetrics.snapshot(Operation.FROM_JSON).getMaxNanos());
+        assertEquals(0, JsonMetrics.snapshot(Operation.FROM_JSON, Integer.class).getCalls());
+        assertEquals(Operation.values().length, JsonMetrics.snapshot().size());
+
+        JsonMetrics.setEnabled(false);
+        assertEquals(JsonMetrics.NOT_RECORDED, JsonMetrics.start());
+        JsonMetrics.success(Operation.FROM_JSON, null, JsonMetrics.start(), 1);
+        assertEquals(0, JsonMetrics.snapshot(Operation.FROM_JSON).getCalls());
+    }
+
+    @Test
+    void unwrapAndXmlStreamEntryPoints() throws IOException {
+        assertEquals(Map.of("id", 1), JsonUtils.unwrapJsonToObject("\"{\\\"id\\\":1}\"", Map.class));
+        assertEquals(Map.of("id", 2), JsonUtils.unwrapJsonToObject("{\"id\":2}".getBytes(StandardCharsets.UTF_8),
+                Map.class));
+        assertThrows(IOException.class, () -> JsonUtils.unwrapJsonToObject("{\"id\":", Map.class));
+        JsonMetrics.Snapshot unwrap = JsonMetrics.snapshot(Operation.UNWRAP_JSON_TO_OBJECT, Map.class);
+        assertEquals(3, unwrap.getCalls());
+        assertEquals(1, unwrap.getErrors());
+
+        assertEquals(Map.of("id", "3"), JsonUtils.xmlToObject(
+                new ByteArrayInputStream("<item><id>3</id></item>".getBytes(StandardCharsets.UTF_8)), Map.class));
+        assertThrows(IOException.class, () -> JsonUtils.xmlToObject(
+                new ByteArrayInputStream("<item><id>".getBytes(StandardCharsets.UTF_8)), Map.class));
+        JsonMetrics.Snapshot xml = JsonMetrics.snapshot(Operation.XML_STREAM_TO_OBJECT, Map.class);
+        assertEquals(2, xml.getCalls());
+        assertEquals(1, xml.getErrors());
+        assertEquals("xmlToObject", xml.getOperation());
+    }
+}
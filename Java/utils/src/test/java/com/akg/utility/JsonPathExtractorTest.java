@@ -0,0 +1,61 @@
+package com.akg.utility;
+
+import com.cs.greenchannel.exception.JsonException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The streaming extractor must answer what the tree path answers, and reject what it rejects.
+ */
+class JsonPathExtractorTest {
+
+    private static final String JSON = "{\"id\":7,\"customers\":[{\"name\":\"a\"},{\"name\":\"b\"}],"
+            + "\"summary\":{\"total\":2,\"checksum\":\"x1\",\"nested\":{\"deep\":[1,2]}},\"tail\":null}";
+
+    private static final List<String[]> PATHS = Arrays.asList(new String[]{"id"}, new String[]{"summary", "total"},
+            new String[]{"summary", "nested", "deep"}, new String[]{"summary"}, new String[]{"customers"},
+            new String[]{"tail"}, new String[]{"missing"}, new String[]{"id", "below"},
+            new String[]{"summary", "missing"});
+
+    @Test
+    void sameAsTree() {
+        for (String[] path : PATHS) {
+            assertEquals(JsonUtils.getKeysInJsonNode(JSON, path), JsonUtils.extractJsonNodeByKeys(JSON, path),
+                    () -> String.join("/", path));
+        }
+        assertEquals(JsonUtils.fromJson(JSON, JsonNode.class), JsonUtils.extractJsonNodeByKeys(JSON));
+        assertNull(JsonUtils.extractJsonNodeByKeys("[1,2]", "id"));
+
+        Map<String, JsonNode> paths = JsonUtils.extractJsonNodesByPaths(JSON, "summary/checksum", "id", "missing",
+                "summary", "summary/nested/deep");
+        assertEquals(Arrays.asList("summary/checksum", "id", "summary", "summary/nested/deep"),
+                Arrays.asList(paths.keySet().toArray()));
+        assertEquals("x1", paths.get("summary/checksum").asText());
+        assertEquals(JsonUtils.getKeysInJsonNode(JSON, "summary"), paths.get("summary"));
+    }
+
+    @Test
+    void repeatedKeysAreRejectedLikeTheTree() {
+        String[] duplicated = {
+                "{\"id\":1,\"id\":2}",
+                "{\"summary\":{\"total\":1},\"summary\":{\"total\":2}}",
+                "{\"summary\":{\"total\":1,\"total\":2}}",
+                "{\"id\":1,\"summary\":{\"total\":1,\"other\":3,\"other\":4}}",
+                "{\"id\":1,\"customers\":[{\"name\":\"a\",\"name\":\"b\"}]}",
+                "{\"summary\":{\"nested\":{\"deep\":1,\"deep\":2}}}"};
+        for (String json : duplicated) {
+            assertNull(JsonUtils.getKeysInJsonNode(json, "id"), json);
+            assertThrows(JsonException.class, () -> JsonUtils.extractJsonNodeByKeys(json, "id"), json);
+            assertThrows(JsonException.class, () -> JsonUtils.extractJsonNodeByKeys(json, "summary", "total"), json);
+            assertThrows(JsonException.class, () -> JsonUtils.extractJsonNodesByPaths(json, "id", "summary"), json);
+        }
+    }
+}
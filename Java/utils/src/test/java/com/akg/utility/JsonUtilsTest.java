@@ -0,0 +1,28 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonUtilsTest {
+
+    @Test
+    void addAtPathCreatesMissingObjects() {
+        assertEquals("{\"a\":{\"b\":{\"c\":1}}}", JsonUtils.addAtPath("{}", "a/b/c", 1));
+        assertEquals("{\"a\":{\"x\":true,\"b\":\"v\"}}", JsonUtils.addAtPath("{\"a\":{\"x\":true}}", "a/b", "v"));
+        assertEquals("{\"a\":2}", JsonUtils.addAtPath("{\"a\":5}", "a", 2));
+    }
+
+    @Test
+    void addAtPathKeepsValuesWhichAreNotObjects() {
+        String[] json = {"{\"a\":5}", "{\"a\":[1]}", "{\"a\":null}", "{\"a\":{\"b\":\"text\"}}"};
+        for (String input : json) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> JsonUtils.addAtPath(input, "a/b/c", 1), input);
+            assertTrue(e.getMessage().contains("is not an object"), e.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> JsonUtils.addAtPath("[1]", "a", 1));
+    }
+}
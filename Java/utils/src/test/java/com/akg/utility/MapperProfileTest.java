@@ -0,0 +1,215 @@
+package com.akg.utility;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The generated accessors of {@link MapperProfile#HIGH_PERFORMANCE} must write and read exactly what reflection
+ * does, so that switching the profile never changes a payload.
+ */
+class MapperProfileTest {
+
+    public enum Status {
+        OPEN,
+        CLOSED
+    }
+
+    public static class Address {
+
+        private String city;
+        private String zip;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getZip() {
+            return zip;
+        }
+
+        public void setZip(String zip) {
+            this.zip = zip;
+        }
+    }
+
+    public static class Account {
+
+        public String note;
+        @JsonProperty("ref")
+        private String reference;
+        private long id;
+        private int age;
+        private double balance;
+        private boolean active;
+        private BigDecimal limit;
+        private LocalDate opened;
+        private Status status;
+        private List<String> tags;
+        private Map<String, Integer> counters;
+        private List<Address> addresses;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public void setBalance(double balance) {
+            this.balance = balance;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public BigDecimal getLimit() {
+            return limit;
+        }
+
+        public void setLimit(BigDecimal limit) {
+            this.limit = limit;
+        }
+
+        public LocalDate getOpened() {
+            return opened;
+        }
+
+        public void setOpened(LocalDate opened) {
+            this.opened = opened;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, Integer> getCounters() {
+            return counters;
+        }
+
+        public void setCounters(Map<String, Integer> counters) {
+            this.counters = counters;
+        }
+
+        public List<Address> getAddresses() {
+            return addresses;
+        }
+
+        public void setAddresses(List<Address> addresses) {
+            this.addresses = addresses;
+        }
+    }
+
+    public static class Accounts {
+
+        private List<Account> accounts;
+
+        public List<Account> getAccounts() {
+            return accounts;
+        }
+
+        public void setAccounts(List<Account> accounts) {
+            this.accounts = accounts;
+        }
+    }
+
+    @Test
+    void highPerformanceWritesAndReadsLikeDefault() throws IOException {
+        ObjectMapper mapper = JsonUtils.newMapper(MapperProfile.HIGH_PERFORMANCE);
+        assertTrue(mapper.getRegisteredModuleIds().size() > JsonUtils.newMapper(MapperProfile.DEFAULT)
+                .getRegisteredModuleIds().size(), "no accessor module was registered");
+
+        ObjectWriter reference = JsonUtils.newMapper(MapperProfile.DEFAULT).writerFor(Accounts.class);
+        ObjectReader reader = mapper.readerFor(Accounts.class);
+        ObjectWriter writer = mapper.writerFor(Accounts.class);
+        for (int count : new int[]{1, 10, 500}) {
+            Accounts accounts = accounts(count, count);
+            String expected = reference.writeValueAsString(accounts);
+
+            assertEquals(expected, writer.writeValueAsString(accounts));
+            assertEquals(expected, writer.writeValueAsString(reader.readValue(expected)));
+        }
+    }
+
+    private static Accounts accounts(int count, long seed) {
+        Random random = new Random(seed);
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.id = random.nextLong();
+            account.age = random.nextInt(100);
+            account.balance = random.nextDouble() * 1e6;
+            account.active = random.nextBoolean();
+            account.limit = random.nextBoolean() ? null : BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            account.opened = LocalDate.ofEpochDay(random.nextInt(30_000));
+            account.status = Status.values()[random.nextInt(Status.values().length)];
+            account.note = random.nextInt(3) == 0 ? null : "note \u00e9 " + i;
+            account.reference = "R" + random.nextInt(1000);
+            account.tags = new ArrayList<>();
+            for (int t = random.nextInt(4); t > 0; t--) {
+                account.tags.add("tag" + random.nextInt(10));
+            }
+            account.counters = new LinkedHashMap<>();
+            account.counters.put("visits", random.nextInt());
+            account.addresses = new ArrayList<>();
+            for (int a = random.nextInt(3); a > 0; a--) {
+                Address address = new Address();
+                address.city = "City " + random.nextInt(50);
+                address.zip = random.nextBoolean() ? null : String.valueOf(10_000 + random.nextInt(90_000));
+                account.addresses.add(address);
+            }
+            accounts.add(account);
+        }
+        Accounts result = new Accounts();
+        result.accounts = accounts;
+        return result;
+    }
+}
@@ -0,0 +1,176 @@
+package com.akg.utility;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Clusters written by the spilling pipeline must be those of comparing every pair of names directly.
+ */
+class NameDeduplicatorTest {
+
+    private static final int MAX_DISTANCE = 2;
+
+    private static final int PREFIX_LENGTH = 3;
+
+    private static final List<String> NAMES = Arrays.asList(
+            "John Smith", "Smith John", "Mr. John Smith", "John Smiht", "Mary Jones");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sortedTokensMatchReorderedNames() throws IOException {
+        NameDeduplicator deduplicator = NameDeduplicator.builder()
+                .blockingKeys(EnumSet.of(NameDeduplicator.BlockingKey.SORTED_TOKENS))
+                .build();
+        List<JsonNode> clusters = run(deduplicator, NAMES);
+
+        assertEquals(Collections.singleton(new HashSet<>(Arrays.asList(0, 1, 2))), memberIds(clusters));
+        for (JsonNode match : clusters.get(0).get("matches")) {
+            assertEquals(0, match.get("distance").intValue());
+        }
+    }
+
+    @Test
+    void allKeysMatchReorderedAndTypoNames() throws IOException {
+        List<JsonNode> clusters = run(NameDeduplicator.builder().build(), NAMES);
+
+        assertEquals(Collections.singleton(new HashSet<>(Arrays.asList(0, 1, 2, 3))), memberIds(clusters));
+    }
+
+    @Test
+    void sameClustersAsAllPairs() throws IOException {
+        List<String> names = withVariants(NameSamples.names(1500, 23L), 31L);
+        for (Set<NameDeduplicator.BlockingKey> keys : Arrays.asList(
+                EnumSet.allOf(NameDeduplicator.BlockingKey.class),
+                EnumSet.of(NameDeduplicator.BlockingKey.SORTED_TOKENS),
+                EnumSet.of(NameDeduplicator.BlockingKey.TOKEN_PREFIXES))) {
+            NameDeduplicator deduplicator = NameDeduplicator.builder()
+                    .blockingKeys(keys)
+                    .partitions(7)
+                    .parallelism(3)
+                    .maxBlockSize(Integer.MAX_VALUE)
+                    .build();
+
+            assertEquals(allPairs(names, keys), memberIds(run(deduplicator, names)), keys::toString);
+        }
+    }
+
+    private List<JsonNode> run(NameDeduplicator deduplicator, List<String> names) throws IOException {
+        Path output = directory.resolve("clusters-" + System.nanoTime() + ".ndjson");
+        deduplicator.run(names.stream(), output);
+        try (Stream<JsonNode> clusters = JsonStreams.readLines(output, JsonNode.class)) {
+            return clusters.collect(Collectors.toList());
+        }
+    }
+
+    private static Set<Set<Integer>> memberIds(List<JsonNode> clusters) {
+        Set<Set<Integer>> ids = new HashSet<>();
+        for (JsonNode cluster : clusters) {
+            Set<Integer> members = new HashSet<>();
+            cluster.get("members").forEach(member -> members.add(member.get("id").intValue()));
+            ids.add(members);
+        }
+        return ids;
+    }
+
+    /**
+     * Every pair the blocking keys admit, compared with the commons-text Levenshtein distance
+     */
+    private static Set<Set<Integer>> allPairs(List<String> names, Set<NameDeduplicator.BlockingKey> keys) {
+        LevenshteinDistance distance = new LevenshteinDistance(MAX_DISTANCE);
+        int count = names.size();
+        String[] normalized = new String[count];
+        String[] sorted = new String[count];
+        String[] prefixes = new String[count];
+        for (int i = 0; i < count; i++) {
+            List<String> parts = StringUtils.getStringParts(StringUtils.getTrimmedAndSanitisedString(names.get(i)));
+            normalized[i] = String.join(" ", parts);
+            List<String> sortedParts = new ArrayList<>(parts);
+            Collections.sort(sortedParts);
+            sorted[i] = parts.isEmpty() ? null : String.join(" ", sortedParts);
+            TreeSet<String> partPrefixes = new TreeSet<>();
+            for (String part : parts) {
+                if (part.length() > 1) {
+                    partPrefixes.add(part.substring(0, Math.min(PREFIX_LENGTH, part.length())));
+                }
+            }
+            prefixes[i] = partPrefixes.isEmpty() ? null : String.join(" ", partPrefixes);
+        }
+
+        int[] parents = new int[count];
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                boolean reordered = keys.contains(NameDeduplicator.BlockingKey.SORTED_TOKENS)
+                        && sorted[i] != null && sorted[i].equals(sorted[j]);
+                boolean close = keys.contains(NameDeduplicator.BlockingKey.TOKEN_PREFIXES)
+                        && prefixes[i] != null && prefixes[i].equals(prefixes[j])
+                        && distance.apply(normalized[i], normalized[j]) >= 0;
+                if (reordered || close) {
+                    parents[root(parents, i)] = root(parents, j);
+                }
+            }
+        }
+
+        Map<Integer, Set<Integer>> clusters = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            clusters.computeIfAbsent(root(parents, i), key -> new HashSet<>()).add(i);
+        }
+        return clusters.values().stream().filter(members -> members.size() > 1).collect(Collectors.toSet());
+    }
+
+    private static int root(int[] parents, int id) {
+        while (parents[id] != id) {
+            id = parents[id];
+        }
+        return id;
+    }
+
+    /**
+     * The names followed by a reordered copy and a copy with a typo after the part prefixes of every fifth name
+     */
+    private static List<String> withVariants(List<String> names, long seed) {
+        Random random = new Random(seed);
+        List<String> samples = new ArrayList<>(names);
+        for (int i = 0; i < names.size(); i += 5) {
+            List<String> parts = StringUtils.getStringParts(StringUtils.getTrimmedAndSanitisedString(names.get(i)));
+            if (parts.size() < 2) {
+                continue;
+            }
+            List<String> reordered = new ArrayList<>(parts);
+            Collections.reverse(reordered);
+            samples.add(String.join(" ", reordered));
+
+            StringBuilder typo = new StringBuilder(String.join(" ", parts));
+            int position = parts.get(0).length() > PREFIX_LENGTH
+                    ? PREFIX_LENGTH + random.nextInt(parts.get(0).length() - PREFIX_LENGTH)
+                    : typo.length() - 1;
+            typo.setCharAt(position, (char) ('A' + random.nextInt(26)));
+            samples.add(typo.toString());
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,60 @@
+package com.akg.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic person names as they arrive from KYC forms: mixed case, salutations, initials, stray punctuation
+ * and spacing, plus random noise over the characters the name helpers treat specially.
+ */
+final class NameSamples {
+
+    private static final String[] SALUTATIONS = {"", "", "", "Mr ", "MR. ", "Mrs ", "mrs. ", "Ms ", "Miss ", "Shri "};
+    private static final String[] FIRST_NAMES = {"Aarav", "Vivaan", "Aditya", "Arjun", "Sai", "Ishaan", "Ananya",
+            "Diya", "Saanvi", "Navya", "Rahul", "Priya", "Amit", "Sunita", "Mohammed", "Fatima", "John", "Mary"};
+    private static final String[] LAST_NAMES = {"Sharma", "Verma", "Gupta", "Kumar", "Singh", "Patel", "Reddy",
+            "Nair", "Iyer", "Banerjee", "Khan", "D'Souza", "Fernandes", "Srinivasan", "Venkataraman"};
+
+    private NameSamples() {
+    }
+
+    static List<String> names(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            if (random.nextInt(5) == 0) {
+                name.append(' ');
+            }
+            name.append(SALUTATIONS[random.nextInt(SALUTATIONS.length)]);
+            name.append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            if (random.nextInt(3) == 0) {
+                name.append(' ').append((char) ('A' + random.nextInt(26))).append('.');
+            }
+            name.append(random.nextInt(8) == 0 ? "  " : " ");
+            name.append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            if (random.nextInt(10) == 0) {
+                name.append(random.nextBoolean() ? " -" : ",");
+            }
+            names.add(random.nextBoolean() ? name.toString() : name.toString().toLowerCase());
+        }
+        return names;
+    }
+
+    /**
+     * @return strings of up to <tt>maxLength - 1</tt> characters drawn from the alphabet
+     */
+    static List<String> noise(String alphabet, int count, int maxLength, long seed) {
+        Random random = new Random(seed);
+        List<String> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] chars = new char[random.nextInt(maxLength)];
+            for (int c = 0; c < chars.length; c++) {
+                chars[c] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            samples.add(new String(chars));
+        }
+        return samples;
+    }
+}
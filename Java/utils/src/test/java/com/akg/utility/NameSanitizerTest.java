@@ -0,0 +1,52 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The single pass sanitizer must give the same result as the regex pipeline it replaced.
+ */
+class NameSanitizerTest {
+
+    private static final String SALUTATION_REGEX = "^(MRS|MR|MS|MISS|SHRI)\\.?\\s+";
+
+    private static final List<String> EDGE_CASES = Arrays.asList(
+            "", " ", "\t\n", "MR", "MR ", "MR.", "MR. ", "MR.X", "MRS", "MRS. ANITA", "MRSHARMA", "MR SHARMA",
+            "mrs\tanita", "Mr.\u000B\fX", "MISS.  X", "MISSX", "MS.X", "MS . X", "SHRI.RAM", "shri  ram", "MR.. X",
+            "MR - X", "MR-. X", "  mr.   mr. x  ", "\u0001MR X\u0001", "O'Brien, John", "a.b.c", "D'SOUZA - 42",
+            "M\u00fcller", "stra\u00dfe", "\u0131van", "Mr Jos\u00e9");
+
+    private static String regexSanitise(String value) {
+        String upper = value.trim().toUpperCase();
+        return upper.replaceFirst(SALUTATION_REGEX, "").replaceAll("[^\\dA-Za-z\\.\\s]", "");
+    }
+
+    private static void assertSameAsRegex(List<String> samples) {
+        for (String sample : samples) {
+            String expected = regexSanitise(sample);
+            assertEquals(expected, NameSanitizer.sanitize(sample), () -> "[" + sample + "]");
+            assertEquals(expected, NameSanitizer.sanitize(sample, new StringBuilder("#")).substring(1),
+                    () -> "appended [" + sample + "]");
+            assertEquals(expected, StringUtils.getTrimmedAndSanitisedString(sample), () -> "[" + sample + "]");
+        }
+    }
+
+    @Test
+    void corpus() {
+        assertSameAsRegex(NameSamples.names(1000, 5L));
+    }
+
+    @Test
+    void salutationEdgeCases() {
+        assertSameAsRegex(EDGE_CASES);
+    }
+
+    @Test
+    void randomAscii() {
+        assertSameAsRegex(NameSamples.noise("mrsMRSHIhi. .\t\u000B\f\r\n-,'09azAZ\u0001~", 200_000, 12, 17L));
+    }
+}
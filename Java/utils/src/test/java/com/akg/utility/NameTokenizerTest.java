@@ -0,0 +1,68 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The span tokenizer must find the same parts as the <tt>split</tt> and <tt>isBlank</tt> filter it replaced.
+ */
+class NameTokenizerTest {
+
+    private static final List<String> EDGE_CASES = Arrays.asList("", ".", " . ", "A..B", "\u001c", "A \u001c B",
+            "\u2003X\u2003", "\u00a0", "\tA\u000bB\fC\rD\nE");
+
+    private static List<String> regexParts(String value) {
+        return Arrays.stream(value.split("\\s|\\.")).filter(part -> !isBlank(part)).collect(Collectors.toList());
+    }
+
+    private static void assertSameAsRegex(List<String> samples) {
+        int[] spans = new int[4];
+        for (String sample : samples) {
+            List<String> expected = regexParts(sample);
+            assertEquals(expected, StringUtils.getStringParts(sample), () -> "[" + sample + "]");
+
+            int[] exact = NameTokenizer.spans(sample);
+            List<String> fromSpans = new ArrayList<>();
+            for (int i = 0; i < exact.length; i += 2) {
+                String part = sample.substring(exact[i], exact[i] + exact[i + 1]);
+                fromSpans.add(part);
+                assertEquals(part.hashCode(), NameTokenizer.hashCode(sample, exact[i], exact[i + 1]));
+            }
+            assertEquals(expected, fromSpans, () -> "spans [" + sample + "]");
+
+            // a short array is filled as far as it goes and the full count still returned
+            int count = StringUtils.getStringParts(sample, spans);
+            assertEquals(expected.size(), count, () -> "count [" + sample + "]");
+            int written = Math.min(exact.length, spans.length);
+            assertArrayEquals(Arrays.copyOf(exact, written), Arrays.copyOf(spans, written));
+        }
+    }
+
+    @Test
+    void corpus() {
+        List<String> names = NameSamples.names(1000, 7L);
+        List<String> samples = new ArrayList<>(names);
+        for (String name : names) {
+            samples.add(StringUtils.getTrimmedAndSanitisedString(name));
+        }
+        assertSameAsRegex(samples);
+    }
+
+    @Test
+    void edgeCases() {
+        assertSameAsRegex(EDGE_CASES);
+    }
+
+    @Test
+    void randomDelimiters() {
+        assertSameAsRegex(NameSamples.noise("ab. \t\u000B\f\r\n\u001c\u00a0\u2003", 100_000, 10, 19L));
+    }
+}
@@ -0,0 +1,70 @@
+package com.akg.utility;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadValidatorTest {
+
+    public static class Payload {
+
+        @NotNull(message = "name is required")
+        public String name;
+
+        Payload(String name) {
+            this.name = name;
+        }
+    }
+
+    private final PayloadValidator validator = PayloadValidator.builder().build();
+
+    @Test
+    void nullPayloadFailsOnlyItsOwnResult() {
+        Payload first = new Payload("a");
+        Payload invalid = new Payload(null);
+        Payload last = new Payload("b");
+        List<Payload> payloads = Arrays.asList(first, null, invalid, last);
+
+        for (Collection<Payload> input : Arrays.<Collection<Payload>>asList(
+                new ArrayList<>(payloads), new LinkedList<>(payloads))) {
+            List<PayloadValidator.Result<Payload>> results = validator.validateAll(input);
+
+            assertEquals(4, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).getIndex());
+                assertSame(payloads.get(i), results.get(i).getPayload());
+            }
+            assertTrue(results.get(0).isValid());
+            assertNull(results.get(0).getError());
+
+            assertFalse(results.get(1).isValid());
+            assertTrue(results.get(1).getViolations().isEmpty());
+            assertEquals(List.of(results.get(1).getError()), results.get(1).getMessages());
+
+            assertFalse(results.get(2).isValid());
+            assertNull(results.get(2).getError());
+            assertEquals(List.of("name is required"), results.get(2).getMessages());
+
+            assertTrue(results.get(3).isValid());
+        }
+    }
+
+    @Test
+    void singlePayloadMustNotBeNull() {
+        assertThrows(IllegalArgumentException.class, () -> validator.validate(null));
+        assertTrue(validator.validate(new Payload("a")).isEmpty());
+        assertEquals(1, validator.validate(new Payload(null)).size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.peeyush.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessagePackFramesTest {
+
+	private static final Map<String, Object> VALUE = Map.of("name", "x".repeat(100), "count", 3);
+
+	@Test
+	void framesRoundTrip() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MessagePackFrames.writeFrame(out, VALUE);
+		MessagePackFrames.writeFrame(out, Map.of("count", 4));
+		try (Stream<Map> frames = MessagePackFrames.readFrames(new ByteArrayInputStream(out.toByteArray()),
+						Map.class)) {
+			assertEquals(Arrays.asList(VALUE, Map.of("count", 4)), frames.collect(Collectors.toList()));
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(out.size());
+		MessagePackFrames.writeFrame(buffer, VALUE);
+		buffer.flip();
+		assertEquals(VALUE, MessagePackFrames.readFrame(buffer, Map.class));
+		assertEquals(0, buffer.remaining());
+	}
+
+	@Test
+	void longerHeadersAreRejected() throws IOException {
+		byte[] header = { 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF };
+		assertThrows(IOException.class, () -> MessagePackFrames.readFrame(ByteBuffer.wrap(header), Map.class));
+		try (Stream<Map> frames = MessagePackFrames.readFrames(new ByteArrayInputStream(header), Map.class)) {
+			UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> frames.findFirst());
+			assertTrue(e.getMessage().contains("exceeds the maximum"), e.getMessage());
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int length = MessagePackFrames.writeFrame(out, VALUE) - MessagePackFrames.HEADER_LENGTH;
+		ByteBuffer frame = ByteBuffer.wrap(out.toByteArray());
+		assertThrows(IOException.class, () -> MessagePackFrames.readFrame(frame, Map.class, length - 1));
+		assertEquals(0, frame.position());
+		assertEquals(VALUE, MessagePackFrames.readFrame(frame, Map.class, length));
+		try (Stream<Map> frames = MessagePackFrames.readFrames(new ByteArrayInputStream(out.toByteArray()), Map.class,
+						length - 1)) {
+			assertThrows(UncheckedIOException.class, () -> frames.collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void overflowLeavesThePositionUnchanged() {
+		for (int capacity : new int[] { 0, 2, 20 }) {
+			ByteBuffer buffer = ByteBuffer.allocate(capacity + 1);
+			buffer.position(1);
+			assertThrows(BufferOverflowException.class, () -> MessagePackFrames.writeFrame(buffer, VALUE));
+			assertEquals(1, buffer.position());
+			assertThrows(BufferOverflowException.class, () -> JsonUtils.messagePackSerialize(VALUE, buffer));
+			assertEquals(1, buffer.position());
+		}
+
+		// larger than the generator's buffer, so part of it is flushed before the overflow
+		Map<String, Object> large = Map.of("name", "x".repeat(40_000));
+		ByteBuffer buffer = ByteBuffer.allocate(20_000);
+		assertThrows(BufferOverflowException.class, () -> MessagePackFrames.writeFrame(buffer, large));
+		assertEquals(0, buffer.position());
+		assertThrows(BufferOverflowException.class, () -> JsonUtils.messagePackSerialize(large, buffer));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	void partialFrameIsRetried() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MessagePackFrames.writeFrame(out, VALUE);
+		byte[] bytes = out.toByteArray();
+		ByteBuffer partial = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+		assertNull(MessagePackFrames.readFrame(partial, Map.class));
+		assertEquals(0, partial.position());
+		List<Object> read = Arrays.asList(MessagePackFrames.readFrame(ByteBuffer.wrap(bytes), Map.class));
+		assertEquals(List.of(VALUE), read);
+	}
+}
@@ -0,0 +1,136 @@
+package com.peeyush.common.utils;
+
+import com.cs.greenchannel.exception.BadRequestException;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryParamBinderTest {
+
+	public static class CollectionBean {
+
+		private TreeSet<String>		sorted;
+		private LinkedList<Integer>	linked;
+		private SortedSet<String>	sortedView;
+		private Queue<Long>			queue;
+		private Collection<String>	any;
+		private TreeSet<Integer>	numbers;
+
+		public void setSorted(TreeSet<String> sorted) {
+			this.sorted = sorted;
+		}
+
+		public void setLinked(LinkedList<Integer> linked) {
+			this.linked = linked;
+		}
+
+		public void setSortedView(SortedSet<String> sortedView) {
+			this.sortedView = sortedView;
+		}
+
+		public void setQueue(Queue<Long> queue) {
+			this.queue = queue;
+		}
+
+		public void setAny(Collection<String> any) {
+			this.any = any;
+		}
+
+		public void setNumbers(TreeSet<Integer> numbers) {
+			this.numbers = numbers;
+		}
+	}
+
+	public static class FieldBean {
+
+		public String		open;
+		@JsonProperty("named")
+		private String		annotated;
+		private String		exposed;
+		private boolean		flag;
+		private String		hidden;
+
+		public String getExposed() {
+			return exposed;
+		}
+
+		public boolean isFlag() {
+			return flag;
+		}
+	}
+
+	private static Map<String, String[]> params(String... pairs) {
+		Map<String, String[]> params = new HashMap<>();
+		for (int i = 0; i < pairs.length; i += 2) {
+			params.merge(pairs[i], new String[] { pairs[i + 1] }, (left, right) -> {
+				String[] merged = Arrays.copyOf(left, left.length + 1);
+				merged[left.length] = right[0];
+				return merged;
+			});
+		}
+		return params;
+	}
+
+	@Test
+	void concreteCollectionsAreCreatedAsDeclared() {
+		CollectionBean bound = QueryParamBinder.bind(params("sorted", "b", "sorted", "a", "linked", "2", "linked",
+						"1", "sortedView", "y", "sortedView", "x", "queue", "7", "any", "v"), CollectionBean.class);
+
+		assertEquals(new TreeSet<>(Arrays.asList("a", "b")), bound.sorted);
+		assertEquals(Arrays.asList(2, 1), bound.linked);
+		assertEquals(Arrays.asList("x", "y"), Arrays.asList(bound.sortedView.toArray()));
+		assertTrue(bound.queue instanceof ArrayDeque);
+		assertEquals(7L, bound.queue.peek());
+		assertEquals(List.of("v"), List.copyOf(bound.any));
+	}
+
+	@Test
+	void blankValueInSortedSetIsBadRequest() {
+		assertEquals(new TreeSet<>(Arrays.asList(1, 3)),
+						QueryParamBinder.bind(params("numbers", "3", "numbers", "1"), CollectionBean.class).numbers);
+		assertThrows(BadRequestException.class,
+						() -> QueryParamBinder.bind(params("numbers", "1", "numbers", " "), CollectionBean.class));
+	}
+
+	@Test
+	void privateFieldsOnlyWhenJacksonWouldSetThem() {
+		FieldBean bound = QueryParamBinder.bind(params("open", "o", "named", "n", "annotated", "a", "exposed", "e",
+						"flag", "true", "hidden", "h"), FieldBean.class);
+
+		assertEquals("o", bound.open);
+		assertEquals("n", bound.annotated);
+		assertEquals("e", bound.exposed);
+		assertTrue(bound.flag);
+		assertNull(bound.hidden);
+	}
+
+	@Test
+	void sameAsJacksonForFields() throws Exception {
+		Map<String, String[]> params = params("open", "o", "named", "n", "exposed", "e", "flag", "true", "hidden",
+						"h");
+		FieldBean bound = QueryParamBinder.bind(params, FieldBean.class);
+		FieldBean converted = JsonUtils.getObjectFromJsonNode(JsonUtils.getFirstParamNodeFromQueryParams(params),
+						FieldBean.class);
+
+		assertEquals(converted.open, bound.open);
+		assertEquals(converted.annotated, bound.annotated);
+		assertEquals(converted.exposed, bound.exposed);
+		assertEquals(converted.flag, bound.flag);
+		assertEquals(converted.hidden, bound.hidden);
+	}
+}